@@ -7,6 +7,7 @@ plugins {
     spotless(GRADLE)
     spotless(JAVA)
     alias(libs.plugins.jreleaser)
+    alias(libs.plugins.jmh)
 }
 
 group = "team.idealstate.sugar"
@@ -48,6 +49,36 @@ dependencies {
     implementation(libs.sugar)
     internal(libs.slf4j.simple)
     internal(libs.maven.resolver.supplier)
+
+    jmh(libs.maven.resolver.supplier)
+    jmh(libs.slf4j.simple)
+}
+
+tasks.named<Test>("test") {
+    useJUnitPlatform {
+        excludeTags("stress")
+    }
+}
+
+tasks.register<Test>("stressTest") {
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("stress")
+    }
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    includeTests.set(true)
+    benchmarkMode.set(listOf("thrpt", "sample"))
+    timeUnit.set("ms")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    profilers.add("gc")
+    resultFormat.set("JSON")
 }
 
 publishing {
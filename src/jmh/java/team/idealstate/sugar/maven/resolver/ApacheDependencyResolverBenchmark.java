@@ -0,0 +1,80 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import team.idealstate.sugar.maven.resolver.api.Dependency;
+import team.idealstate.sugar.maven.resolver.api.DependencyScope;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ApacheDependencyResolverBenchmark {
+
+    @Param({"100", "1000"})
+    public int dependencies;
+
+    private final ApacheDependencyResolver dependencyResolver = new ApacheDependencyResolver();
+    private byte[] pom;
+
+    @Setup
+    public void setUp() {
+        pom = RepositoryFixture.largePom(dependencies);
+    }
+
+    @Benchmark
+    public List<Dependency> resolvePom() {
+        return dependencyResolver.resolvePom(new ByteArrayInputStream(pom));
+    }
+
+    @Benchmark
+    public List<Dependency> resolvePomFromBuffer() {
+        return dependencyResolver.resolvePom(ByteBuffer.wrap(pom));
+    }
+
+    @Benchmark
+    public List<Dependency> resolvePomFromModel() throws IOException, XmlPullParserException {
+        List<org.apache.maven.model.Dependency> dependencies =
+                new MavenXpp3Reader().read(new ByteArrayInputStream(pom)).getDependencies();
+        List<Dependency> result = new ArrayList<>(dependencies.size());
+        for (org.apache.maven.model.Dependency dependency : dependencies) {
+            result.add(dependencyResolver.resolve(
+                    dependency.getGroupId(),
+                    dependency.getArtifactId(),
+                    dependency.getType(),
+                    dependency.getClassifier(),
+                    dependency.getVersion(),
+                    DependencyScope.of(dependency.getScope())));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import team.idealstate.sugar.maven.resolver.api.Dependency;
+import team.idealstate.sugar.maven.resolver.api.RemoteRepository;
+import team.idealstate.sugar.maven.resolver.api.ResolvedArtifact;
+
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ApacheMavenResolverBenchmark {
+
+    @Benchmark
+    public List<ResolvedArtifact> coldLocalRepository(ColdState state) {
+        return state.resolver.resolve(state.workspace.dependencies);
+    }
+
+    @Benchmark
+    public List<ResolvedArtifact> warmLocalRepository(WarmState state) {
+        try (ApacheMavenResolver resolver = state.workspace.newResolver(state.localRepository)) {
+            return resolver.resolve(state.workspace.dependencies);
+        }
+    }
+
+    @Benchmark
+    public List<ResolvedArtifact> lockfileWarmStart(LockfileState state) {
+        try (ApacheMavenResolver resolver = state.workspace.newResolver(state.localRepository)) {
+            return resolver.resolve(state.workspace.dependencies);
+        }
+    }
+
+    @Benchmark
+    public List<ResolvedArtifact> repeatedCall(RepeatedState state) {
+        return state.resolver.resolve(state.workspace.dependencies);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Workspace {
+
+        @Param({"DEEP", "WIDE", "CONFLICT", "LARGE"})
+        public RepositoryFixture.Shape shape;
+
+        private Path root;
+        private List<RemoteRepository> remoteRepositories;
+        private List<Dependency> dependencies;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            root = Files.createTempDirectory("sugar-maven-resolver-benchmark");
+            Path remoteRepository = root.resolve("remote");
+            dependencies = RepositoryFixture.generate(remoteRepository, shape, new ApacheDependencyResolver());
+            remoteRepositories =
+                    Collections.singletonList(new RepositoryFixture.FixtureRemoteRepository(remoteRepository));
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            RepositoryFixture.delete(root);
+        }
+
+        private Path newLocalRepository(String prefix) throws IOException {
+            return Files.createTempDirectory(root, prefix);
+        }
+
+        private Path newPopulatedLocalRepository(String prefix) throws IOException {
+            Path localRepository = newLocalRepository(prefix);
+            try (ApacheMavenResolver resolver = newResolver(localRepository)) {
+                resolver.resolve(dependencies);
+            }
+            return localRepository;
+        }
+
+        private ApacheMavenResolver newResolver(Path localRepository) {
+            return new ApacheMavenResolver(
+                    new RepositoryFixture.FixtureLocalRepository(localRepository),
+                    remoteRepositories,
+                    new ApacheDependencyResolver());
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class ColdState {
+
+        private Workspace workspace;
+        private Path localRepository;
+        private ApacheMavenResolver resolver;
+
+        @Setup(Level.Invocation)
+        public void setUp(Workspace workspace) throws IOException {
+            this.workspace = workspace;
+            localRepository = workspace.newLocalRepository("cold");
+            resolver = workspace.newResolver(localRepository);
+        }
+
+        @TearDown(Level.Invocation)
+        public void tearDown() throws IOException {
+            resolver.close();
+            RepositoryFixture.delete(localRepository);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class WarmState {
+
+        private Workspace workspace;
+        private Path localRepository;
+
+        @Setup(Level.Trial)
+        public void setUp(Workspace workspace) throws IOException {
+            this.workspace = workspace;
+            localRepository = workspace.newPopulatedLocalRepository("warm");
+            deleteResolutionCache();
+        }
+
+        @TearDown(Level.Invocation)
+        public void deleteResolutionCache() throws IOException {
+            Path resolutionCache = localRepository.resolve(".sugar").resolve("resolution");
+            if (Files.exists(resolutionCache)) {
+                RepositoryFixture.delete(resolutionCache);
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class LockfileState {
+
+        private Workspace workspace;
+        private Path localRepository;
+
+        @Setup(Level.Trial)
+        public void setUp(Workspace workspace) throws IOException {
+            this.workspace = workspace;
+            localRepository = workspace.newPopulatedLocalRepository("lockfile");
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class RepeatedState {
+
+        private Workspace workspace;
+        private ApacheMavenResolver resolver;
+
+        @Setup(Level.Trial)
+        public void setUp(Workspace workspace) throws IOException {
+            this.workspace = workspace;
+            resolver = workspace.newResolver(workspace.newPopulatedLocalRepository("repeated"));
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            resolver.close();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import team.idealstate.sugar.maven.resolver.api.LocalRepository;
+import team.idealstate.sugar.maven.resolver.api.MavenResolverConfiguration;
+import team.idealstate.sugar.maven.resolver.api.RemoteRepository;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ApacheMavenResolverFactoryBenchmark {
+
+    @Param({"1", "16", "64"})
+    public int resolvers;
+
+    @Param({"true", "false"})
+    public boolean shared;
+
+    private final ApacheMavenResolverFactory factory = new ApacheMavenResolverFactory();
+    private Path workspace;
+    private List<MavenResolverConfiguration> configurations;
+    private List<ApacheMavenResolver> created;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() throws IOException {
+        workspace = Files.createTempDirectory("sugar-maven-resolver-factory-benchmark");
+        Path remoteRepository = workspace.resolve("remote");
+        Files.createDirectories(remoteRepository);
+        List<RemoteRepository> remoteRepositories =
+                Collections.singletonList(new RepositoryFixture.FixtureRemoteRepository(remoteRepository));
+        configurations = new ArrayList<>(resolvers);
+        for (int i = 0; i < resolvers; i++) {
+            LocalRepository localRepository =
+                    new RepositoryFixture.FixtureLocalRepository(workspace.resolve("tenant-" + i));
+            configurations.add(new MavenResolverConfiguration() {
+                @Override
+                public LocalRepository getLocalRepository() {
+                    return localRepository;
+                }
+
+                @Override
+                public List<RemoteRepository> getRemoteRepositories() {
+                    return remoteRepositories;
+                }
+            });
+        }
+        created = new ArrayList<>(resolvers);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownTrial() throws IOException {
+        RepositoryFixture.delete(workspace);
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDownInvocation() {
+        for (ApacheMavenResolver resolver : created) {
+            resolver.close();
+        }
+        created.clear();
+    }
+
+    @Benchmark
+    public List<ApacheMavenResolver> createResolvers() {
+        createAll();
+        return created;
+    }
+
+    @Benchmark
+    public List<ApacheMavenResolver> retainedHeap(HeapCounters counters) {
+        long before = counters.usedHeap();
+        createAll();
+        counters.retainedBytes = counters.usedHeap() - before;
+        return created;
+    }
+
+    private void createAll() {
+        for (MavenResolverConfiguration configuration : configurations) {
+            created.add(
+                    shared
+                            ? factory.create(configuration, ApacheMavenResolverOptions.defaults())
+                            : new ApacheMavenResolver(
+                                    configuration.getLocalRepository(),
+                                    configuration.getRemoteRepositories(),
+                                    new ApacheDependencyResolver(),
+                                    ApacheMavenResolverOptions.defaults()));
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapCounters {
+
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+        public long retainedBytes;
+
+        private long usedHeap() {
+            for (int i = 0; i < 3; i++) {
+                System.gc();
+            }
+            return memory.getHeapMemoryUsage().getUsed();
+        }
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.security.CodeSigner;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+import team.idealstate.sugar.validate.annotation.Nullable;
+
+public final class ApacheArtifactClassLoader extends URLClassLoader {
+
+    private static final int[] NONE = new int[0];
+
+    static {
+        ClassLoader.registerAsParallelCapable();
+    }
+
+    private final File[] files;
+    private final URL[] urls;
+    private final JarFile[] jarFiles;
+    private final Map<String, int[]> index;
+    private volatile boolean closed;
+
+    ApacheArtifactClassLoader(
+            @NotNull List<File> files, @NotNull Map<String, int[]> index, @Nullable ClassLoader parent) {
+        super(asURLs(files), parent);
+        Validation.notNull(index, "Index must not be null.");
+        this.files = files.toArray(new File[0]);
+        this.urls = getURLs();
+        this.jarFiles = new JarFile[this.files.length];
+        this.index = index;
+    }
+
+    @NotNull
+    private static URL[] asURLs(@NotNull List<File> files) {
+        Validation.notNull(files, "Files must not be null.");
+        URL[] result = new URL[files.size()];
+        for (int i = 0; i < result.length; i++) {
+            try {
+                result[i] = files.get(i).toURI().toURL();
+            } catch (MalformedURLException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        String resourceName = name.replace('.', '/') + ".class";
+        for (int owner : ownersOf(resourceName)) {
+            JarFile jarFile = jarFileOf(owner);
+            if (jarFile == null) {
+                continue;
+            }
+            JarEntry entry = jarFile.getJarEntry(resourceName);
+            if (entry == null) {
+                continue;
+            }
+            byte[] bytes;
+            try (InputStream inputStream = jarFile.getInputStream(entry)) {
+                bytes = readAllBytes(inputStream, entry.getSize());
+            } catch (IOException e) {
+                throw new ClassNotFoundException(name, e);
+            }
+            definePackageOf(name, jarFile, owner);
+            CodeSigner[] signers = entry.getCodeSigners();
+            return defineClass(name, bytes, 0, bytes.length, new CodeSource(urls[owner], signers));
+        }
+        throw new ClassNotFoundException(name);
+    }
+
+    @Override
+    public URL findResource(String name) {
+        for (int owner : ownersOf(name)) {
+            URL url = resourceOf(owner, name);
+            if (url != null) {
+                return url;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Enumeration<URL> findResources(String name) {
+        int[] owners = ownersOf(name);
+        if (owners.length == 0) {
+            return Collections.emptyEnumeration();
+        }
+        List<URL> result = new ArrayList<>(owners.length);
+        for (int owner : owners) {
+            URL url = resourceOf(owner, name);
+            if (url != null) {
+                result.add(url);
+            }
+        }
+        return Collections.enumeration(result);
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException exception = null;
+        synchronized (jarFiles) {
+            closed = true;
+            for (int i = 0; i < jarFiles.length; i++) {
+                JarFile jarFile = jarFiles[i];
+                if (jarFile == null) {
+                    continue;
+                }
+                jarFiles[i] = null;
+                try {
+                    jarFile.close();
+                } catch (IOException e) {
+                    if (exception == null) {
+                        exception = e;
+                    } else {
+                        exception.addSuppressed(e);
+                    }
+                }
+            }
+        }
+        try {
+            super.close();
+        } catch (IOException e) {
+            if (exception == null) {
+                exception = e;
+            } else {
+                exception.addSuppressed(e);
+            }
+        }
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+    @NotNull
+    private int[] ownersOf(@NotNull String name) {
+        if (name.startsWith("/")) {
+            return NONE;
+        }
+        int[] owners = index.get(ApacheClassPathIndex.directoryOf(name));
+        return owners == null ? NONE : owners;
+    }
+
+    @Nullable
+    private URL resourceOf(int owner, @NotNull String name) {
+        JarFile jarFile = jarFileOf(owner);
+        if (jarFile == null || jarFile.getEntry(name) == null) {
+            return null;
+        }
+        try {
+            return new URL("jar:" + urls[owner] + "!/" + name);
+        } catch (MalformedURLException e) {
+            return null;
+        }
+    }
+
+    @Nullable
+    private JarFile jarFileOf(int owner) {
+        JarFile jarFile = jarFiles[owner];
+        if (jarFile != null) {
+            return jarFile;
+        }
+        synchronized (jarFiles) {
+            jarFile = jarFiles[owner];
+            if (jarFile == null && !closed) {
+                try {
+                    jarFile = new JarFile(files[owner]);
+                } catch (IOException e) {
+                    return null;
+                }
+                jarFiles[owner] = jarFile;
+            }
+            return jarFile;
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    private void definePackageOf(@NotNull String className, @NotNull JarFile jarFile, int owner) {
+        int end = className.lastIndexOf('.');
+        if (end < 0) {
+            return;
+        }
+        String packageName = className.substring(0, end);
+        if (getPackage(packageName) != null) {
+            return;
+        }
+        try {
+            Manifest manifest = jarFile.getManifest();
+            if (manifest == null) {
+                definePackage(packageName, null, null, null, null, null, null, null);
+            } else {
+                definePackage(packageName, manifest, urls[owner]);
+            }
+        } catch (IOException | IllegalArgumentException ignored) {
+            // the package is either defined concurrently or its manifest is unreadable
+        }
+    }
+
+    @NotNull
+    private static byte[] readAllBytes(@NotNull InputStream inputStream, long size) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(size > 0 ? (int) size : 8192);
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, read);
+        }
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import team.idealstate.sugar.maven.resolver.api.ResolvedArtifact;
+import team.idealstate.sugar.maven.resolver.api.exception.MavenResolutionException;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+
+public final class ApacheBatchResolution<K> {
+
+    private final Map<K, List<ResolvedArtifact>> results;
+    private final Map<K, MavenResolutionException> failures;
+
+    ApacheBatchResolution(
+            @NotNull Map<K, List<ResolvedArtifact>> results, @NotNull Map<K, MavenResolutionException> failures) {
+        Validation.notNull(results, "Results must not be null.");
+        Validation.notNull(failures, "Failures must not be null.");
+        this.results = Collections.unmodifiableMap(results);
+        this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    @NotNull
+    public Map<K, List<ResolvedArtifact>> getResults() {
+        return results;
+    }
+
+    @NotNull
+    public Map<K, MavenResolutionException> getFailures() {
+        return failures;
+    }
+
+    public boolean isSuccessful() {
+        return failures.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "ApacheBatchResolution{" + "results=" + results.keySet() + ", failures=" + failures.keySet() + '}';
+    }
+}
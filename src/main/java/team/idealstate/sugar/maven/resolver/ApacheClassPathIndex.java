@@ -0,0 +1,187 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import team.idealstate.sugar.logging.Log;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+import team.idealstate.sugar.validate.annotation.Nullable;
+
+final class ApacheClassPathIndex {
+
+    private static final String HEADER = "# sugar-maven-resolver classpath v1";
+    private static final String SEPARATOR = "\t";
+    private static final String INDEX_SEPARATOR = ",";
+
+    private final Path directory;
+
+    public ApacheClassPathIndex(@NotNull File localRepository) {
+        Validation.notNull(localRepository, "Local repository must not be null.");
+        this.directory = localRepository.toPath().resolve(".sugar").resolve("classpath");
+    }
+
+    @NotNull
+    public static String directoryOf(@NotNull String name) {
+        int end = name.lastIndexOf('/');
+        return end < 0 ? "" : name.substring(0, end);
+    }
+
+    @NotNull
+    public Map<String, int[]> indexOf(@NotNull List<File> jars) {
+        Validation.notNull(jars, "Jars must not be null.");
+        String key = keyOf(jars);
+        Map<String, int[]> index = load(key, jars.size());
+        if (index != null) {
+            return index;
+        }
+        index = build(jars);
+        store(key, index);
+        return index;
+    }
+
+    @NotNull
+    private static Map<String, int[]> build(@NotNull List<File> jars) {
+        Map<String, int[]> index = new HashMap<>();
+        for (int i = 0; i < jars.size(); i++) {
+            File jar = jars.get(i);
+            try (ZipFile zipFile = new ZipFile(jar)) {
+                Enumeration<? extends ZipEntry> entries = zipFile.entries();
+                while (entries.hasMoreElements()) {
+                    String directory = directoryOf(entries.nextElement().getName());
+                    int[] owners = index.get(directory);
+                    if (owners == null) {
+                        index.put(directory, new int[] {i});
+                    } else if (owners[owners.length - 1] != i) {
+                        owners = Arrays.copyOf(owners, owners.length + 1);
+                        owners[owners.length - 1] = i;
+                        index.put(directory, owners);
+                    }
+                }
+            } catch (IOException e) {
+                Log.debug(() -> String.format("Failed to index '%s': %s", jar, e));
+            }
+        }
+        return index;
+    }
+
+    @Nullable
+    private Map<String, int[]> load(@NotNull String key, int jars) {
+        Path path = directory.resolve(key);
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+        Map<String, int[]> index = new HashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            if (!HEADER.equals(reader.readLine())) {
+                return null;
+            }
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int separator = line.lastIndexOf(SEPARATOR);
+                if (separator < 0) {
+                    return null;
+                }
+                String[] fields = line.substring(separator + 1).split(INDEX_SEPARATOR);
+                int[] owners = new int[fields.length];
+                for (int i = 0; i < fields.length; i++) {
+                    owners[i] = Integer.parseInt(fields[i]);
+                    if (owners[i] < 0 || owners[i] >= jars) {
+                        return null;
+                    }
+                }
+                index.put(line.substring(0, separator), owners);
+            }
+        } catch (IOException | RuntimeException e) {
+            Log.debug(() -> String.format("Failed to read classpath index '%s': %s", key, e));
+            return null;
+        }
+        return index;
+    }
+
+    private void store(@NotNull String key, @NotNull Map<String, int[]> index) {
+        Path temporary = null;
+        try {
+            Files.createDirectories(directory);
+            temporary = Files.createTempFile(directory, key, ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                writer.write(HEADER);
+                writer.newLine();
+                StringBuilder builder = new StringBuilder();
+                for (Map.Entry<String, int[]> entry : index.entrySet()) {
+                    builder.setLength(0);
+                    builder.append(entry.getKey()).append(SEPARATOR);
+                    int[] owners = entry.getValue();
+                    for (int i = 0; i < owners.length; i++) {
+                        if (i != 0) {
+                            builder.append(INDEX_SEPARATOR);
+                        }
+                        builder.append(owners[i]);
+                    }
+                    writer.write(builder.toString());
+                    writer.newLine();
+                }
+            }
+            Path target = directory.resolve(key);
+            try {
+                Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            temporary = null;
+        } catch (IOException | RuntimeException e) {
+            Log.debug(() -> String.format("Failed to write classpath index '%s': %s", key, e));
+        } finally {
+            if (temporary != null) {
+                try {
+                    Files.deleteIfExists(temporary);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    @NotNull
+    private static String keyOf(@NotNull List<File> jars) {
+        StringBuilder builder = new StringBuilder(128 * jars.size());
+        for (File jar : jars) {
+            builder.append(jar.getAbsolutePath())
+                    .append(' ')
+                    .append(jar.length())
+                    .append(' ')
+                    .append(jar.lastModified())
+                    .append('\n');
+        }
+        return ApacheIntegrityIndex.toHex(ApacheIntegrityIndex.digest("SHA-256")
+                .digest(builder.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+}
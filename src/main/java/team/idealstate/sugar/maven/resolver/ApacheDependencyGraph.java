@@ -0,0 +1,455 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.graph.DependencyNode;
+import team.idealstate.sugar.maven.resolver.api.DependencyScope;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+import team.idealstate.sugar.validate.annotation.Nullable;
+
+public final class ApacheDependencyGraph {
+
+    public static final int ROOT_REQUESTER = -1;
+    public static final int OMITTED_REQUESTER = -2;
+    private static final int GROUP_ID = 0;
+    private static final int ARTIFACT_ID = 1;
+    private static final int EXTENSION = 2;
+    private static final int CLASSIFIER = 3;
+    private static final int VERSION = 4;
+    private static final int FIELDS = 5;
+    private static final int[] EMPTY = new int[0];
+    private static final DependencyScope[] SCOPES = DependencyScope.values();
+
+    private final String[] strings;
+    private final int[] coordinates;
+    private final byte[] scopes;
+    private final File[] files;
+    private final int[] roots;
+    private final int[] childOffsets;
+    private final int[] children;
+    private final int[] parentOffsets;
+    private final int[] parents;
+    private final int[] loserOffsets;
+    private final int[] loserVersions;
+    private final int[] loserRequesters;
+    private final Map<String, Integer> index;
+
+    private ApacheDependencyGraph(
+            @NotNull String[] strings,
+            @NotNull int[] coordinates,
+            @NotNull byte[] scopes,
+            @NotNull File[] files,
+            @NotNull int[] roots,
+            @NotNull int[] childOffsets,
+            @NotNull int[] children,
+            @NotNull int[] parentOffsets,
+            @NotNull int[] parents,
+            @NotNull int[] loserOffsets,
+            @NotNull int[] loserVersions,
+            @NotNull int[] loserRequesters) {
+        this.strings = strings;
+        this.coordinates = coordinates;
+        this.scopes = scopes;
+        this.files = files;
+        this.roots = roots;
+        this.childOffsets = childOffsets;
+        this.children = children;
+        this.parentOffsets = parentOffsets;
+        this.parents = parents;
+        this.loserOffsets = loserOffsets;
+        this.loserVersions = loserVersions;
+        this.loserRequesters = loserRequesters;
+        this.index = new HashMap<>(scopes.length * 4 / 3 + 1);
+        for (int node = 0; node < scopes.length; node++) {
+            index.putIfAbsent(keyOf(field(node, GROUP_ID), field(node, ARTIFACT_ID)), node);
+        }
+    }
+
+    @NotNull
+    static ApacheDependencyGraph of(@NotNull DependencyNode root, @NotNull Collection<DependencyNode> rawSubtrees) {
+        Validation.notNull(root, "Root must not be null.");
+        Validation.notNull(rawSubtrees, "Raw subtrees must not be null.");
+        return new Builder().build(root, rawSubtrees);
+    }
+
+    public int size() {
+        return scopes.length;
+    }
+
+    public int indexOf(@NotNull String groupId, @NotNull String artifactId) {
+        Validation.notNull(groupId, "Group id must not be null.");
+        Validation.notNull(artifactId, "Artifact id must not be null.");
+        Integer node = index.get(keyOf(groupId, artifactId));
+        return node == null ? -1 : node;
+    }
+
+    @NotNull
+    public String getGroupId(int node) {
+        return field(node, GROUP_ID);
+    }
+
+    @NotNull
+    public String getArtifactId(int node) {
+        return field(node, ARTIFACT_ID);
+    }
+
+    @NotNull
+    public String getExtension(int node) {
+        return field(node, EXTENSION);
+    }
+
+    @NotNull
+    public String getClassifier(int node) {
+        return field(node, CLASSIFIER);
+    }
+
+    @NotNull
+    public String getVersion(int node) {
+        return field(node, VERSION);
+    }
+
+    @NotNull
+    public DependencyScope getScope(int node) {
+        checkNode(node);
+        return SCOPES[scopes[node]];
+    }
+
+    @Nullable
+    public File getFile(int node) {
+        checkNode(node);
+        return files[node];
+    }
+
+    @NotNull
+    public int[] getRoots() {
+        return roots.clone();
+    }
+
+    @NotNull
+    public int[] getChildren(int node) {
+        checkNode(node);
+        return Arrays.copyOfRange(children, childOffsets[node], childOffsets[node + 1]);
+    }
+
+    @NotNull
+    public int[] getParents(int node) {
+        checkNode(node);
+        return Arrays.copyOfRange(parents, parentOffsets[node], parentOffsets[node + 1]);
+    }
+
+    @NotNull
+    public List<String> getLosingVersions(int node) {
+        checkNode(node);
+        int from = loserOffsets[node];
+        int to = loserOffsets[node + 1];
+        if (from == to) {
+            return Collections.emptyList();
+        }
+        List<String> result = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            result.add(strings[loserVersions[i]]);
+        }
+        return result;
+    }
+
+    @NotNull
+    public int[] getLosingRequesters(int node) {
+        checkNode(node);
+        return Arrays.copyOfRange(loserRequesters, loserOffsets[node], loserOffsets[node + 1]);
+    }
+
+    @NotNull
+    public int[] getPath(int node) {
+        checkNode(node);
+        boolean[] isRoot = new boolean[scopes.length];
+        for (int root : roots) {
+            isRoot[root] = true;
+        }
+        int[] previous = new int[scopes.length];
+        Arrays.fill(previous, -2);
+        Deque<Integer> queue = new ArrayDeque<>();
+        previous[node] = -1;
+        queue.add(node);
+        while (!queue.isEmpty()) {
+            int current = queue.poll();
+            if (isRoot[current]) {
+                int length = 0;
+                for (int it = current; it != -1; it = previous[it]) {
+                    length++;
+                }
+                int[] result = new int[length];
+                int position = 0;
+                for (int it = current; it != -1; it = previous[it]) {
+                    result[position++] = it;
+                }
+                return result;
+            }
+            for (int i = parentOffsets[current]; i < parentOffsets[current + 1]; i++) {
+                int parent = parents[i];
+                if (previous[parent] == -2) {
+                    previous[parent] = current;
+                    queue.add(parent);
+                }
+            }
+        }
+        return EMPTY;
+    }
+
+    @NotNull
+    public String toString(int node) {
+        StringBuilder builder = new StringBuilder()
+                .append(getGroupId(node))
+                .append(':')
+                .append(getArtifactId(node))
+                .append(':')
+                .append(getExtension(node));
+        String classifier = getClassifier(node);
+        if (!classifier.isEmpty()) {
+            builder.append(':').append(classifier);
+        }
+        return builder.append(':').append(getVersion(node)).toString();
+    }
+
+    @Override
+    public String toString() {
+        return "ApacheDependencyGraph{" + "nodes=" + scopes.length + ", edges=" + children.length + ", losers="
+                + loserVersions.length + '}';
+    }
+
+    @NotNull
+    private String field(int node, int field) {
+        checkNode(node);
+        return strings[coordinates[node * FIELDS + field]];
+    }
+
+    @NotNull
+    private static String keyOf(@NotNull String groupId, @NotNull String artifactId) {
+        return groupId + ':' + artifactId;
+    }
+
+    private void checkNode(int node) {
+        if (node < 0 || node >= scopes.length) {
+            throw new IndexOutOfBoundsException("Node " + node + " is out of range [0, " + scopes.length + ").");
+        }
+    }
+
+    @NotNull
+    private static int[] toOffsets(@NotNull IntList sources, int size) {
+        int[] offsets = new int[size + 1];
+        for (int i = 0; i < sources.size; i++) {
+            offsets[sources.values[i] + 1]++;
+        }
+        for (int i = 0; i < size; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+        return offsets;
+    }
+
+    @NotNull
+    private static int[] toTargets(
+            @NotNull int[] offsets, @NotNull IntList sources, @NotNull IntList targets, int size) {
+        int[] result = new int[sources.size];
+        int[] positions = Arrays.copyOf(offsets, size);
+        for (int i = 0; i < sources.size; i++) {
+            result[positions[sources.values[i]]++] = targets.values[i];
+        }
+        return result;
+    }
+
+    private static final class IntList {
+
+        private int[] values = new int[16];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        @NotNull
+        private int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    private static final class Builder {
+
+        private final Map<String, Integer> stringIds = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+        private final Map<String, Integer> nodeIds = new HashMap<>();
+        private final Map<String, Integer> versionlessIds = new HashMap<>();
+        private final IntList coordinates = new IntList();
+        private final List<DependencyNode> nodes = new ArrayList<>();
+
+        @NotNull
+        private ApacheDependencyGraph build(
+                @NotNull DependencyNode root, @NotNull Collection<DependencyNode> rawSubtrees) {
+            IntList roots = new IntList();
+            IntList edgeSources = new IntList();
+            IntList edgeTargets = new IntList();
+            Set<Long> edges = new HashSet<>();
+            Map<DependencyNode, Integer> visited = new IdentityHashMap<>();
+            Deque<DependencyNode> queue = new ArrayDeque<>();
+            for (DependencyNode child : root.getChildren()) {
+                int index = indexOf(child, visited, queue);
+                if (edges.add(((long) -1 << 32) | index)) {
+                    roots.add(index);
+                }
+            }
+            while (!queue.isEmpty()) {
+                DependencyNode node = queue.poll();
+                int parent = visited.get(node);
+                for (DependencyNode child : node.getChildren()) {
+                    int index = indexOf(child, visited, queue);
+                    if (edges.add(((long) parent << 32) | (index & 0xFFFFFFFFL))) {
+                        edgeSources.add(parent);
+                        edgeTargets.add(index);
+                    }
+                }
+            }
+            int size = nodes.size();
+            IntList loserNodes = new IntList();
+            IntList loserVersions = new IntList();
+            IntList loserRequesters = new IntList();
+            Set<String> losers = new HashSet<>();
+            Map<DependencyNode, Boolean> rawVisited = new IdentityHashMap<>();
+            for (DependencyNode subtree : rawSubtrees) {
+                collectLosers(
+                        subtree, ROOT_REQUESTER, rawVisited, losers, loserNodes, loserVersions, loserRequesters);
+            }
+            byte[] scopes = new byte[size];
+            File[] files = new File[size];
+            for (int i = 0; i < size; i++) {
+                DependencyNode node = nodes.get(i);
+                scopes[i] = (byte) DependencyScope.of(node.getDependency().getScope()).ordinal();
+                files[i] = node.getArtifact().getFile();
+            }
+            int[] childOffsets = toOffsets(edgeSources, size);
+            int[] parentOffsets = toOffsets(edgeTargets, size);
+            int[] loserOffsets = toOffsets(loserNodes, size);
+            return new ApacheDependencyGraph(
+                    strings.toArray(new String[0]),
+                    coordinates.toArray(),
+                    scopes,
+                    files,
+                    roots.toArray(),
+                    childOffsets,
+                    toTargets(childOffsets, edgeSources, edgeTargets, size),
+                    parentOffsets,
+                    toTargets(parentOffsets, edgeTargets, edgeSources, size),
+                    loserOffsets,
+                    toTargets(loserOffsets, loserNodes, loserVersions, size),
+                    toTargets(loserOffsets, loserNodes, loserRequesters, size));
+        }
+
+        private int indexOf(
+                @NotNull DependencyNode node,
+                @NotNull Map<DependencyNode, Integer> visited,
+                @NotNull Deque<DependencyNode> queue) {
+            Integer index = visited.get(node);
+            if (index != null) {
+                return index;
+            }
+            Artifact artifact = node.getArtifact();
+            String key = keyOf(artifact, true);
+            index = nodeIds.get(key);
+            if (index == null) {
+                index = nodes.size();
+                nodes.add(node);
+                nodeIds.put(key, index);
+                versionlessIds.putIfAbsent(keyOf(artifact, false), index);
+                coordinates.add(intern(artifact.getGroupId()));
+                coordinates.add(intern(artifact.getArtifactId()));
+                coordinates.add(intern(artifact.getExtension()));
+                coordinates.add(intern(artifact.getClassifier()));
+                coordinates.add(intern(artifact.getVersion()));
+            }
+            visited.put(node, index);
+            queue.add(node);
+            return index;
+        }
+
+        private void collectLosers(
+                @NotNull DependencyNode node,
+                int requester,
+                @NotNull Map<DependencyNode, Boolean> visited,
+                @NotNull Set<String> losers,
+                @NotNull IntList loserNodes,
+                @NotNull IntList loserVersions,
+                @NotNull IntList loserRequesters) {
+            Artifact artifact = node.getArtifact();
+            Integer winner = versionlessIds.get(keyOf(artifact, false));
+            boolean losing = winner != null
+                    && !artifact.getBaseVersion().equals(nodes.get(winner).getArtifact().getBaseVersion());
+            if (losing && losers.add(winner + " " + artifact.getVersion() + " " + requester)) {
+                loserNodes.add(winner);
+                loserVersions.add(intern(artifact.getVersion()));
+                loserRequesters.add(requester);
+            }
+            if (visited.put(node, Boolean.TRUE) != null) {
+                return;
+            }
+            int next = winner == null || losing ? OMITTED_REQUESTER : winner;
+            for (DependencyNode child : node.getChildren()) {
+                collectLosers(child, next, visited, losers, loserNodes, loserVersions, loserRequesters);
+            }
+        }
+
+        private int intern(@NotNull String value) {
+            Integer id = stringIds.get(value);
+            if (id == null) {
+                id = strings.size();
+                strings.add(value);
+                stringIds.put(value, id);
+            }
+            return id;
+        }
+
+        @NotNull
+        private static String keyOf(@NotNull Artifact artifact, boolean versioned) {
+            StringBuilder builder = new StringBuilder()
+                    .append(artifact.getGroupId())
+                    .append(':')
+                    .append(artifact.getArtifactId())
+                    .append(':')
+                    .append(artifact.getExtension())
+                    .append(':')
+                    .append(artifact.getClassifier());
+            if (versioned) {
+                builder.append(':').append(artifact.getVersion());
+            }
+            return builder.toString();
+        }
+    }
+}
@@ -16,12 +16,19 @@
 
 package team.idealstate.sugar.maven.resolver;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
-import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.building.FileModelSource;
+import org.apache.maven.model.building.ModelBuildingException;
+import org.apache.maven.model.building.ModelSource2;
 import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
 import team.idealstate.sugar.maven.resolver.api.Dependency;
 import team.idealstate.sugar.maven.resolver.api.DependencyResolver;
@@ -31,7 +38,18 @@ import team.idealstate.sugar.validate.Validation;
 import team.idealstate.sugar.validate.annotation.NotNull;
 import team.idealstate.sugar.validate.annotation.Nullable;
 
-final class ApacheDependencyResolver implements DependencyResolver {
+public final class ApacheDependencyResolver implements DependencyResolver {
+
+    private final ApacheEffectivePomBuilder effectivePomBuilder;
+
+    public ApacheDependencyResolver() {
+        this(null);
+    }
+
+    ApacheDependencyResolver(@Nullable ApacheEffectivePomBuilder effectivePomBuilder) {
+        this.effectivePomBuilder = effectivePomBuilder;
+    }
+
     @NotNull
     @Override
     public Dependency resolve(
@@ -52,23 +70,85 @@ final class ApacheDependencyResolver implements DependencyResolver {
     @NotNull
     @Override
     public List<Dependency> resolvePom(@NotNull InputStream pomInputStream) {
+        Validation.notNull(pomInputStream, "Pom input stream must not be null.");
         try {
-            List<org.apache.maven.model.Dependency> dependencies =
-                    new MavenXpp3Reader().read(pomInputStream).getDependencies();
-            if (dependencies.isEmpty()) {
-                return Collections.emptyList();
-            }
-            return dependencies.stream()
-                    .map(it -> resolve(
-                            it.getGroupId(),
-                            it.getArtifactId(),
-                            it.getType(),
-                            it.getClassifier(),
-                            it.getVersion(),
-                            DependencyScope.of(it.getScope())))
-                    .collect(Collectors.toList());
+            return ApachePomDependencyReader.read(pomInputStream, this);
         } catch (IOException | XmlPullParserException e) {
             throw new MavenResolutionException(e);
         }
     }
+
+    @NotNull
+    public List<Dependency> resolvePom(@NotNull Path pomPath) {
+        Validation.notNull(pomPath, "Pom path must not be null.");
+        try (InputStream pomInputStream = Files.newInputStream(pomPath)) {
+            return ApachePomDependencyReader.read(pomInputStream, this);
+        } catch (IOException | XmlPullParserException e) {
+            throw new MavenResolutionException(e);
+        }
+    }
+
+    @NotNull
+    public List<Dependency> resolvePom(@NotNull ByteBuffer pomBuffer) {
+        Validation.notNull(pomBuffer, "Pom buffer must not be null.");
+        return resolvePom(ApachePomDependencyReader.asInputStream(pomBuffer));
+    }
+
+    @NotNull
+    public List<Dependency> resolveEffectivePom(@NotNull InputStream pomInputStream) {
+        Validation.notNull(pomInputStream, "Pom input stream must not be null.");
+        byte[] pom;
+        try {
+            pom = readAllBytes(pomInputStream);
+        } catch (IOException e) {
+            throw new MavenResolutionException(e);
+        }
+        return resolveEffectivePom(ApacheEffectivePomBuilder.asModelSource(pom, "(input stream)"));
+    }
+
+    @NotNull
+    public List<Dependency> resolveEffectivePom(@NotNull Path pomPath) {
+        Validation.notNull(pomPath, "Pom path must not be null.");
+        return resolveEffectivePom(new FileModelSource(pomPath.toFile()));
+    }
+
+    @NotNull
+    private List<Dependency> resolveEffectivePom(@NotNull ModelSource2 modelSource) {
+        if (effectivePomBuilder == null) {
+            throw new MavenResolutionException(
+                    "Effective pom resolution requires a dependency resolver bound to a maven resolver.");
+        }
+        Model model;
+        try {
+            model = effectivePomBuilder.build(modelSource);
+        } catch (ModelBuildingException e) {
+            throw new MavenResolutionException(e);
+        }
+        List<org.apache.maven.model.Dependency> dependencies = model.getDependencies();
+        if (dependencies.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Dependency> result = new ArrayList<>(dependencies.size());
+        for (org.apache.maven.model.Dependency dependency : dependencies) {
+            result.add(resolve(
+                    dependency.getGroupId(),
+                    dependency.getArtifactId(),
+                    dependency.getType(),
+                    dependency.getClassifier(),
+                    dependency.getVersion(),
+                    DependencyScope.of(dependency.getScope())));
+        }
+        return result;
+    }
+
+    @NotNull
+    private static byte[] readAllBytes(@NotNull InputStream inputStream) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, read);
+        }
+        return outputStream.toByteArray();
+    }
 }
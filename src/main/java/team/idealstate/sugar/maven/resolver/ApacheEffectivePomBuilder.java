@@ -0,0 +1,184 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+import java.util.function.Supplier;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.Parent;
+import org.apache.maven.model.Repository;
+import org.apache.maven.model.building.DefaultModelBuilderFactory;
+import org.apache.maven.model.building.DefaultModelBuildingRequest;
+import org.apache.maven.model.building.FileModelSource;
+import org.apache.maven.model.building.ModelBuilder;
+import org.apache.maven.model.building.ModelBuildingException;
+import org.apache.maven.model.building.ModelBuildingRequest;
+import org.apache.maven.model.building.ModelSource2;
+import org.apache.maven.model.resolution.ModelResolver;
+import org.apache.maven.model.resolution.UnresolvableModelException;
+import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.resolution.ArtifactRequest;
+import org.eclipse.aether.resolution.ArtifactResolutionException;
+import org.eclipse.aether.resolution.VersionRangeRequest;
+import org.eclipse.aether.resolution.VersionRangeResolutionException;
+import org.eclipse.aether.resolution.VersionRangeResult;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+
+final class ApacheEffectivePomBuilder {
+
+    private final RepositorySystem system;
+    private final Supplier<RepositorySystemSession> sessions;
+    private final List<RemoteRepository> repositories;
+    private final ApacheModelCache modelCache;
+    private final ModelBuilder modelBuilder = new DefaultModelBuilderFactory().newInstance();
+
+    public ApacheEffectivePomBuilder(
+            @NotNull RepositorySystem system,
+            @NotNull Supplier<RepositorySystemSession> sessions,
+            @NotNull List<RemoteRepository> repositories,
+            @NotNull ApacheModelCache modelCache) {
+        Validation.notNull(system, "System must not be null.");
+        Validation.notNull(sessions, "Sessions must not be null.");
+        Validation.notNull(repositories, "Repositories must not be null.");
+        Validation.notNull(modelCache, "Model cache must not be null.");
+        this.system = system;
+        this.sessions = sessions;
+        this.repositories = repositories;
+        this.modelCache = modelCache;
+    }
+
+    @NotNull
+    public static ModelSource2 asModelSource(@NotNull byte[] pom, @NotNull String location) {
+        return new ModelSource2() {
+            @Override
+            public InputStream getInputStream() {
+                return new ByteArrayInputStream(pom);
+            }
+
+            @Override
+            public String getLocation() {
+                return location;
+            }
+
+            @Override
+            public ModelSource2 getRelatedSource(String relPath) {
+                return null;
+            }
+
+            @Override
+            public URI getLocationURI() {
+                return null;
+            }
+        };
+    }
+
+    @NotNull
+    public Model build(@NotNull ModelSource2 modelSource) throws ModelBuildingException {
+        ModelBuildingRequest request = new DefaultModelBuildingRequest()
+                .setModelSource(modelSource)
+                .setValidationLevel(ModelBuildingRequest.VALIDATION_LEVEL_MINIMAL)
+                .setProcessPlugins(false)
+                .setTwoPhaseBuilding(false)
+                .setLocationTracking(false)
+                .setSystemProperties(System.getProperties())
+                .setModelResolver(new RepositoryModelResolver(sessions.get()))
+                .setModelCache(modelCache);
+        return modelBuilder.build(request).getEffectiveModel();
+    }
+
+    private final class RepositoryModelResolver implements ModelResolver {
+
+        private final RepositorySystemSession session;
+
+        private RepositoryModelResolver(@NotNull RepositorySystemSession session) {
+            this.session = session;
+        }
+
+        @Override
+        public ModelSource2 resolveModel(String groupId, String artifactId, String version)
+                throws UnresolvableModelException {
+            Artifact pom = new DefaultArtifact(groupId, artifactId, "", "pom", version);
+            try {
+                pom = system.resolveArtifact(session, new ArtifactRequest(pom, repositories, null))
+                        .getArtifact();
+            } catch (ArtifactResolutionException e) {
+                throw new UnresolvableModelException(e.getMessage(), groupId, artifactId, version, e);
+            }
+            return new FileModelSource(pom.getFile());
+        }
+
+        @Override
+        public ModelSource2 resolveModel(Parent parent) throws UnresolvableModelException {
+            String version = resolveVersion(parent.getGroupId(), parent.getArtifactId(), parent.getVersion());
+            parent.setVersion(version);
+            return resolveModel(parent.getGroupId(), parent.getArtifactId(), version);
+        }
+
+        @Override
+        public ModelSource2 resolveModel(Dependency dependency) throws UnresolvableModelException {
+            String version =
+                    resolveVersion(dependency.getGroupId(), dependency.getArtifactId(), dependency.getVersion());
+            dependency.setVersion(version);
+            return resolveModel(dependency.getGroupId(), dependency.getArtifactId(), version);
+        }
+
+        @Override
+        public void addRepository(Repository repository) {}
+
+        @Override
+        public void addRepository(Repository repository, boolean replace) {}
+
+        @Override
+        public ModelResolver newCopy() {
+            return this;
+        }
+
+        @NotNull
+        private String resolveVersion(String groupId, String artifactId, String version)
+                throws UnresolvableModelException {
+            if (version == null || (version.indexOf('[') < 0 && version.indexOf('(') < 0)) {
+                return version;
+            }
+            VersionRangeResult result;
+            try {
+                result = system.resolveVersionRange(
+                        session,
+                        new VersionRangeRequest(
+                                new DefaultArtifact(groupId, artifactId, "", "pom", version), repositories, null));
+            } catch (VersionRangeResolutionException e) {
+                throw new UnresolvableModelException(e.getMessage(), groupId, artifactId, version, e);
+            }
+            if (result.getHighestVersion() == null) {
+                throw new UnresolvableModelException(
+                        String.format("No versions matched the requested range '%s'.", version),
+                        groupId,
+                        artifactId,
+                        version);
+            }
+            return result.getHighestVersion().toString();
+        }
+    }
+}
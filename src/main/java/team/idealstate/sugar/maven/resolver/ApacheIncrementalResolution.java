@@ -0,0 +1,66 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.repository.RemoteRepository;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+
+public final class ApacheIncrementalResolution {
+
+    private final ApacheResolution resolution;
+    private final List<RemoteRepository> repositories;
+    private final Map<Dependency, DependencyNode> subtrees;
+
+    ApacheIncrementalResolution(
+            @NotNull ApacheResolution resolution,
+            @NotNull List<RemoteRepository> repositories,
+            @NotNull Map<Dependency, DependencyNode> subtrees) {
+        Validation.notNull(resolution, "Resolution must not be null.");
+        Validation.notNull(repositories, "Repositories must not be null.");
+        Validation.notNull(subtrees, "Subtrees must not be null.");
+        this.resolution = resolution;
+        this.repositories = repositories;
+        this.subtrees = Collections.unmodifiableMap(subtrees);
+    }
+
+    @NotNull
+    public ApacheResolution getResolution() {
+        return resolution;
+    }
+
+    @NotNull
+    List<RemoteRepository> getRepositories() {
+        return repositories;
+    }
+
+    @NotNull
+    Map<Dependency, DependencyNode> getSubtrees() {
+        return subtrees;
+    }
+
+    @Override
+    public String toString() {
+        return "ApacheIncrementalResolution{" + "resolution=" + resolution + ", dependencies=" + subtrees.keySet()
+                + '}';
+    }
+}
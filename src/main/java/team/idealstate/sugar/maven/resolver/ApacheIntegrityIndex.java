@@ -0,0 +1,384 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import team.idealstate.sugar.logging.Log;
+import team.idealstate.sugar.maven.resolver.api.exception.MavenResolutionException;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+import team.idealstate.sugar.validate.annotation.Nullable;
+
+final class ApacheIntegrityIndex {
+
+    private static final String HEADER = "# sugar-maven-resolver integrity v1";
+    private static final String SEPARATOR = "\t";
+    private static final int FIELDS = 5;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String SHA1_EXTENSION = ".sha1";
+    private static final String LOCK_EXTENSION = ".lock";
+    private static final ConcurrentMap<Path, Object> LOCKS = new ConcurrentHashMap<>();
+
+    private final Path path;
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Set<String> removed = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private volatile boolean loaded;
+
+    public ApacheIntegrityIndex(@NotNull File localRepository) {
+        Validation.notNull(localRepository, "Local repository must not be null.");
+        this.path = localRepository.toPath().resolve(".sugar").resolve("integrity").resolve("index");
+    }
+
+    @NotNull
+    public String sha1Of(@NotNull Path file) throws IOException {
+        return entryOf(file).sha1;
+    }
+
+    @NotNull
+    public String sha256Of(@NotNull Path file) throws IOException {
+        return entryOf(file).sha256;
+    }
+
+    @NotNull
+    public List<String> verify(
+            @NotNull List<File> files, @NotNull ApacheChecksumPolicy policy, @NotNull Executor executor) {
+        Validation.notNull(files, "Files must not be null.");
+        Validation.notNull(policy, "Policy must not be null.");
+        Validation.notNull(executor, "Executor must not be null.");
+        if (policy == ApacheChecksumPolicy.IGNORE || files.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<CompletableFuture<String>> verifications = new ArrayList<>(files.size());
+        List<Runnable> tasks = new ArrayList<>(files.size());
+        for (File file : files) {
+            Path path = file.toPath();
+            CompletableFuture<String> verification = new CompletableFuture<>();
+            verifications.add(verification);
+            Runnable task = verificationOf(path, verification);
+            if (isIndexed(path)) {
+                task.run();
+                continue;
+            }
+            tasks.add(task);
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException ignored) {
+                // the task runs on the calling thread below
+            }
+        }
+        // the caller may itself be a worker of the executor, so it runs every task no worker has claimed yet
+        for (Runnable task : tasks) {
+            task.run();
+        }
+        List<String> mismatches = new ArrayList<>(0);
+        for (CompletableFuture<String> verification : verifications) {
+            String mismatch;
+            try {
+                mismatch = verification.join();
+            } catch (CompletionException e) {
+                throw new MavenResolutionException(e.getCause());
+            }
+            if (mismatch != null) {
+                mismatches.add(mismatch);
+            }
+        }
+        return mismatches;
+    }
+
+    public void flush() {
+        if (!dirty.compareAndSet(true, false)) {
+            return;
+        }
+        try {
+            Files.createDirectories(path.getParent());
+            synchronized (LOCKS.computeIfAbsent(path.toAbsolutePath().normalize(), it -> new Object())) {
+                try (FileChannel channel = FileChannel.open(
+                        path.resolveSibling(path.getFileName() + LOCK_EXTENSION),
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE)) {
+                    FileLock lock = channel.lock();
+                    try {
+                        merge();
+                    } finally {
+                        lock.release();
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            Log.debug(() -> String.format("Failed to write integrity index '%s': %s", path, e));
+        }
+    }
+
+    private void merge() throws IOException {
+        Map<String, Entry> merged = read(path);
+        for (Map.Entry<String, Entry> entry : merged.entrySet()) {
+            entries.putIfAbsent(entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+            merged.merge(
+                    entry.getKey(), entry.getValue(), (stored, own) -> stored.modified > own.modified ? stored : own);
+        }
+        List<String> dropped = new ArrayList<>(removed);
+        for (String key : dropped) {
+            merged.remove(key);
+        }
+        Path temporary = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                writer.write(HEADER);
+                writer.newLine();
+                for (Map.Entry<String, Entry> entry : merged.entrySet()) {
+                    Entry value = entry.getValue();
+                    writer.write(String.join(
+                            SEPARATOR,
+                            String.valueOf(value.size),
+                            String.valueOf(value.modified),
+                            value.sha1,
+                            value.sha256,
+                            entry.getKey()));
+                    writer.newLine();
+                }
+            }
+            try {
+                Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+            temporary = null;
+            removed.removeAll(dropped);
+        } finally {
+            if (temporary != null) {
+                try {
+                    Files.deleteIfExists(temporary);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    private boolean isIndexed(@NotNull Path file) {
+        load();
+        Entry entry = entries.get(keyOf(file));
+        if (entry == null) {
+            return false;
+        }
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return entry.matches(attributes);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    @NotNull
+    private Runnable verificationOf(@NotNull Path file, @NotNull CompletableFuture<String> verification) {
+        AtomicBoolean claimed = new AtomicBoolean();
+        return () -> {
+            if (!claimed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                verification.complete(mismatchOf(file));
+            } catch (Throwable e) {
+                verification.completeExceptionally(e instanceof CompletionException ? e.getCause() : e);
+            }
+        };
+    }
+
+    @Nullable
+    private String mismatchOf(@NotNull Path file) {
+        Path checksumFile = file.resolveSibling(file.getFileName() + SHA1_EXTENSION);
+        try {
+            String actual = sha1Of(file);
+            if (!Files.isRegularFile(checksumFile)) {
+                return String.format("Checksum missing for '%s': '%s' does not exist.", file, checksumFile);
+            }
+            String expected = new String(Files.readAllBytes(checksumFile), StandardCharsets.US_ASCII).trim();
+            int end = expected.indexOf(' ');
+            if (end >= 0) {
+                expected = expected.substring(0, end);
+            }
+            expected = expected.toLowerCase(Locale.ROOT);
+            return actual.equals(expected)
+                    ? null
+                    : String.format("Checksum mismatch for '%s': expected %s but was %s.", file, expected, actual);
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    @NotNull
+    private Entry entryOf(@NotNull Path file) throws IOException {
+        load();
+        String key = keyOf(file);
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            removed.add(key);
+            if (entries.remove(key) != null) {
+                dirty.set(true);
+            }
+            throw e;
+        }
+        Entry entry = entries.get(key);
+        if (entry != null && entry.matches(attributes)) {
+            return entry;
+        }
+        entry = hash(file, attributes);
+        entries.put(key, entry);
+        removed.remove(key);
+        dirty.set(true);
+        return entry;
+    }
+
+    private void load() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            for (Map.Entry<String, Entry> entry : read(path).entrySet()) {
+                entries.putIfAbsent(entry.getKey(), entry.getValue());
+            }
+            loaded = true;
+        }
+    }
+
+    @NotNull
+    private static Map<String, Entry> read(@NotNull Path path) {
+        Map<String, Entry> result = new HashMap<>();
+        if (!Files.isRegularFile(path)) {
+            return result;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            if (!HEADER.equals(reader.readLine())) {
+                return result;
+            }
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split(SEPARATOR, FIELDS);
+                if (fields.length != FIELDS) {
+                    continue;
+                }
+                result.put(
+                        fields[4],
+                        new Entry(Long.parseLong(fields[0]), Long.parseLong(fields[1]), fields[2], fields[3]));
+            }
+        } catch (IOException | RuntimeException e) {
+            Log.debug(() -> String.format("Failed to read integrity index '%s': %s", path, e));
+        }
+        return result;
+    }
+
+    @NotNull
+    private static String keyOf(@NotNull Path file) {
+        return file.toAbsolutePath().normalize().toString();
+    }
+
+    @NotNull
+    private static Entry hash(@NotNull Path file, @NotNull BasicFileAttributes attributes) throws IOException {
+        MessageDigest sha1 = digest("SHA-1");
+        MessageDigest sha256 = digest("SHA-256");
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                sha1.update(buffer.array(), 0, buffer.limit());
+                sha256.update(buffer.array(), 0, buffer.limit());
+                buffer.clear();
+            }
+        }
+        return new Entry(
+                attributes.size(),
+                attributes.lastModifiedTime().toMillis(),
+                toHex(sha1.digest()),
+                toHex(sha256.digest()));
+    }
+
+    @NotNull
+    static MessageDigest digest(@NotNull String algorithm) {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @NotNull
+    static String toHex(@NotNull byte[] bytes) {
+        char[] result = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int value = bytes[i] & 0xFF;
+            result[i * 2] = Character.forDigit(value >>> 4, 16);
+            result[i * 2 + 1] = Character.forDigit(value & 0x0F, 16);
+        }
+        return new String(result);
+    }
+
+    private static final class Entry {
+
+        private final long size;
+        private final long modified;
+        private final String sha1;
+        private final String sha256;
+
+        private Entry(long size, long modified, @NotNull String sha1, @NotNull String sha256) {
+            this.size = size;
+            this.modified = modified;
+            this.sha1 = sha1;
+            this.sha256 = sha256;
+        }
+
+        private boolean matches(@NotNull BasicFileAttributes attributes) {
+            return size == attributes.size() && modified == attributes.lastModifiedTime().toMillis();
+        }
+    }
+}
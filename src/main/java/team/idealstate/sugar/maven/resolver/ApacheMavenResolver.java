@@ -17,26 +17,66 @@
 package team.idealstate.sugar.maven.resolver;
 
 import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
 import java.net.MalformedURLException;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import org.apache.maven.repository.internal.MavenRepositorySystemUtils;
+import org.eclipse.aether.ConfigurationProperties;
 import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.DefaultSessionData;
+import org.eclipse.aether.RepositoryException;
 import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.collection.CollectRequest;
+import org.eclipse.aether.collection.CollectResult;
+import org.eclipse.aether.collection.DependencyCollectionException;
+import org.eclipse.aether.collection.DependencyGraphTransformationContext;
+import org.eclipse.aether.collection.DependencyGraphTransformer;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.resolution.ArtifactResolutionException;
 import org.eclipse.aether.resolution.ArtifactResult;
 import org.eclipse.aether.resolution.DependencyRequest;
 import org.eclipse.aether.resolution.DependencyResolutionException;
 import org.eclipse.aether.resolution.DependencyResult;
-import org.eclipse.aether.supplier.RepositorySystemSupplier;
 import org.eclipse.aether.transfer.AbstractTransferListener;
+import org.eclipse.aether.transfer.TransferCancelledException;
 import org.eclipse.aether.transfer.TransferEvent;
+import org.eclipse.aether.transfer.TransferListener;
 import org.eclipse.aether.transfer.TransferResource;
+import org.eclipse.aether.util.listener.ChainedTransferListener;
+import org.eclipse.aether.util.repository.SimpleArtifactDescriptorPolicy;
 import team.idealstate.sugar.logging.Log;
 import team.idealstate.sugar.maven.exception.MavenException;
 import team.idealstate.sugar.maven.resolver.api.Dependency;
@@ -50,35 +90,130 @@ import team.idealstate.sugar.maven.resolver.api.ResolvedArtifact;
 import team.idealstate.sugar.maven.resolver.api.exception.MavenResolutionException;
 import team.idealstate.sugar.validate.Validation;
 import team.idealstate.sugar.validate.annotation.NotNull;
+import team.idealstate.sugar.validate.annotation.Nullable;
 
-final class ApacheMavenResolver implements MavenResolver, Closeable {
+public final class ApacheMavenResolver implements MavenResolver, Closeable {
 
     private static final Set<DependencyScope> DEFAULT_RESOLVING_SCOPES =
             Collections.unmodifiableSet(new HashSet<>(Arrays.asList(DependencyScope.COMPILE, DependencyScope.RUNTIME)));
+    private static final int REPOSITORY_CACHE_SIZE = 8192;
+    private static final long EXECUTOR_KEEP_ALIVE_SECONDS = 60L;
+    private static final String CONFIG_PROP_DESCRIPTOR_POOL = "aether.dependencyCollector.pool.descriptor";
+    private static final String CONFIG_PROP_COLLECTOR_IMPL = "aether.dependencyCollector.impl";
+    private static final String CONFIG_PROP_LOCK_FACTORY = "aether.syncContext.named.factory";
+    private static final String CONFIG_PROP_LOCK_NAME_MAPPER = "aether.syncContext.named.nameMapper";
+    private static final String CONFIG_PROP_LOCK_TIME = "aether.syncContext.named.time";
+    private static final String CONFIG_PROP_LOCK_TIME_UNIT = "aether.syncContext.named.time.unit";
+    private static final String CONFIG_PROP_CONNECTOR_THREADS = "aether.connector.basic.threads";
+    private static final String VERSION_RESOLUTION_KEY =
+            "org.apache.maven.repository.internal.DefaultVersionResolver$Key";
 
     private final LocalRepository localRepository;
+    private final ApacheMavenResolverOptions options;
+    private final ApacheResolutionMode resolutionMode;
+    private final ApacheChecksumPolicy checksumPolicy;
+    private final ApacheFailureMode failureMode;
     private final List<RemoteRepository> remoteRepositories;
     private final DependencyResolver dependencyResolver;
     private final org.eclipse.aether.repository.LocalRepository apacheLocalRepository;
     private final List<org.eclipse.aether.repository.RemoteRepository> apacheRemoteRepositories;
-    private final RepositorySystem system = new RepositorySystemSupplier().get();
+    private final ApacheIntegrityIndex integrityIndex;
+    private final ApacheResolutionCache resolutionCache;
+    private final ApacheClassPathIndex classPathIndex;
+    private final ApacheResolutionBundle bundle;
+    private final ApacheNegativeCache negativeCache;
+    private final ApacheSharedRepositorySystem.Lease lease;
+    private final RepositorySystem system;
+    private final ApacheRepositoryCache repositoryCache = new ApacheRepositoryCache(REPOSITORY_CACHE_SIZE);
+    private final ApacheRepositoryCache offlineRepositoryCache = new ApacheRepositoryCache(REPOSITORY_CACHE_SIZE);
+    private final ApacheModelCache modelCache;
+    private final ApacheMetricsRecorder metricsRecorder = new ApacheMetricsRecorder();
+    private final ApacheRepositoryHealth repositoryHealth;
+    private final RepositorySystemSession session;
+    private final boolean updatingSnapshots;
+    private final Map<String, String> snapshotVersions = new ConcurrentHashMap<>();
+    private final List<org.eclipse.aether.repository.RemoteRepository> resolutionRepositories;
+    private volatile ExecutorService executor;
+    private volatile ScheduledExecutorService scheduler;
 
     public ApacheMavenResolver(
             @NotNull LocalRepository localRepository,
             @NotNull List<RemoteRepository> remoteRepositories,
             @NotNull DependencyResolver dependencyResolver) {
-        Validation.notNull(localRepository, "Local repository must not be null.");
-        Validation.notNull(remoteRepositories, "Remote repositories must not be null.");
-        Validation.notNull(dependencyResolver, "Dependency resolver must not be null.");
-        this.localRepository = localRepository;
-        this.apacheLocalRepository = asApacheLocalRepository(getLocalRepository());
-        this.remoteRepositories = remoteRepositories;
+        this(localRepository, remoteRepositories, dependencyResolver, ApacheMavenResolverOptions.defaults());
+    }
+
+    public ApacheMavenResolver(
+            @NotNull LocalRepository localRepository,
+            @NotNull List<RemoteRepository> remoteRepositories,
+            @NotNull DependencyResolver dependencyResolver,
+            @NotNull ApacheMavenResolverOptions options) {
+        this(
+                localRepository,
+                remoteRepositories,
+                dependencyResolver,
+                options,
+                ApacheSharedRepositorySystem.exclusive());
+    }
+
+    ApacheMavenResolver(
+            @NotNull LocalRepository localRepository,
+            @NotNull List<RemoteRepository> remoteRepositories,
+            @NotNull DependencyResolver dependencyResolver,
+            @NotNull ApacheMavenResolverOptions options,
+            @NotNull ApacheSharedRepositorySystem.Lease lease) {
+        ApacheResolutionBundle mounted = null;
         try {
-            this.apacheRemoteRepositories = asApacheRemoteRepositories(getRemoteRepositories());
-        } catch (MalformedURLException e) {
-            throw new MavenException(e);
+            Validation.notNull(localRepository, "Local repository must not be null.");
+            Validation.notNull(remoteRepositories, "Remote repositories must not be null.");
+            Validation.notNull(dependencyResolver, "Dependency resolver must not be null.");
+            Validation.notNull(options, "Options must not be null.");
+            Validation.notNull(lease, "Lease must not be null.");
+            this.lease = lease;
+            this.system = lease.getSystem();
+            this.localRepository = localRepository;
+            this.options = options;
+            this.resolutionMode = options.getResolutionMode();
+            this.checksumPolicy = options.getChecksumPolicy();
+            this.failureMode = options.getFailureMode();
+            this.repositoryHealth = new ApacheRepositoryHealth(options.getRepositoryCooldown());
+            this.apacheLocalRepository = asApacheLocalRepository(getLocalRepository());
+            this.remoteRepositories = remoteRepositories;
+            try {
+                this.apacheRemoteRepositories = asApacheRemoteRepositories(
+                        getRemoteRepositories(), checksumPolicy, options.getSnapshotUpdateInterval());
+            } catch (MalformedURLException e) {
+                throw new MavenException(e);
+            }
+            this.modelCache = lease.getModelCache(this.apacheRemoteRepositories);
+            this.integrityIndex = new ApacheIntegrityIndex(apacheLocalRepository.getBasedir());
+            this.resolutionCache = new ApacheResolutionCache(apacheLocalRepository.getBasedir(), integrityIndex);
+            this.classPathIndex = new ApacheClassPathIndex(apacheLocalRepository.getBasedir());
+            Duration negativeCacheTtl = options.getNegativeCacheTtl();
+            this.negativeCache = negativeCacheTtl.isZero()
+                    ? null
+                    : new ApacheNegativeCache(apacheLocalRepository.getBasedir(), negativeCacheTtl);
+            Path bundle = options.getBundle();
+            try {
+                mounted = bundle == null ? null : new ApacheResolutionBundle(bundle);
+            } catch (IOException e) {
+                throw new MavenException(e);
+            }
+            this.bundle = mounted;
+            this.updatingSnapshots = isUpdatingSnapshots(this.apacheRemoteRepositories);
+            this.session = newSession(resolutionMode == ApacheResolutionMode.OFFLINE);
+            this.resolutionRepositories = system.newResolutionRepositories(session, this.apacheRemoteRepositories);
+            this.dependencyResolver = dependencyResolver instanceof ApacheDependencyResolver
+                    ? new ApacheDependencyResolver(new ApacheEffectivePomBuilder(
+                            system, this::newCallSession, resolutionRepositories, modelCache))
+                    : dependencyResolver;
+        } catch (Throwable e) {
+            closeBundle(mounted);
+            if (lease != null) {
+                lease.close();
+            }
+            throw e;
         }
-        this.dependencyResolver = dependencyResolver;
     }
 
     @NotNull
@@ -88,8 +223,10 @@ final class ApacheMavenResolver implements MavenResolver, Closeable {
         }
         List<ResolvedArtifact> result = new ArrayList<>(artifactResults.size());
         for (ArtifactResult artifactResult : artifactResults) {
-            for (Exception exception : artifactResult.getExceptions()) {
-                throw new MavenResolutionException(exception);
+            if (!artifactResult.isResolved()) {
+                for (Exception exception : artifactResult.getExceptions()) {
+                    throw new MavenResolutionException(exception);
+                }
             }
             Artifact response = artifactResult.getArtifact();
             if (response == null) {
@@ -128,13 +265,16 @@ final class ApacheMavenResolver implements MavenResolver, Closeable {
 
     @NotNull
     private static List<org.eclipse.aether.repository.RemoteRepository> asApacheRemoteRepositories(
-            @NotNull List<RemoteRepository> repositories) throws MalformedURLException {
+            @NotNull List<RemoteRepository> repositories,
+            @NotNull ApacheChecksumPolicy checksumPolicy,
+            @Nullable Duration snapshotUpdateInterval)
+            throws MalformedURLException {
         if (repositories.isEmpty()) {
             return Collections.emptyList();
         }
+        String apacheChecksumPolicy = asApacheChecksumPolicy(checksumPolicy);
         List<org.eclipse.aether.repository.RemoteRepository> result = new ArrayList<>(repositories.size());
         for (RemoteRepository repository : repositories) {
-            Set<RepositoryPolicy> policies = repository.getPolicies();
             result.add(new org.eclipse.aether.repository.RemoteRepository.Builder(
                             repository.getName(),
                             "default",
@@ -142,19 +282,43 @@ final class ApacheMavenResolver implements MavenResolver, Closeable {
                     .setReleasePolicy(new org.eclipse.aether.repository.RepositoryPolicy(
                             true,
                             org.eclipse.aether.repository.RepositoryPolicy.UPDATE_POLICY_NEVER,
-                            org.eclipse.aether.repository.RepositoryPolicy.CHECKSUM_POLICY_WARN))
+                            apacheChecksumPolicy))
                     .setSnapshotPolicy(new org.eclipse.aether.repository.RepositoryPolicy(
                             true,
-                            policies.contains(RepositoryPolicy.ALWAYS_UPDATE)
-                                            && !policies.contains(RepositoryPolicy.NEVER_UPDATE)
-                                    ? org.eclipse.aether.repository.RepositoryPolicy.UPDATE_POLICY_ALWAYS
-                                    : org.eclipse.aether.repository.RepositoryPolicy.UPDATE_POLICY_NEVER,
-                            org.eclipse.aether.repository.RepositoryPolicy.CHECKSUM_POLICY_WARN))
+                            asApacheUpdatePolicy(repository.getPolicies(), snapshotUpdateInterval),
+                            apacheChecksumPolicy))
                     .build());
         }
         return result;
     }
 
+    @NotNull
+    private static String asApacheUpdatePolicy(
+            @NotNull Set<RepositoryPolicy> policies, @Nullable Duration updateInterval) {
+        if (policies.contains(RepositoryPolicy.NEVER_UPDATE) || !policies.contains(RepositoryPolicy.ALWAYS_UPDATE)) {
+            return org.eclipse.aether.repository.RepositoryPolicy.UPDATE_POLICY_NEVER;
+        }
+        if (updateInterval != null) {
+            return org.eclipse.aether.repository.RepositoryPolicy.UPDATE_POLICY_INTERVAL + ":"
+                    + Math.max(1L, updateInterval.toMinutes());
+        }
+        return org.eclipse.aether.repository.RepositoryPolicy.UPDATE_POLICY_ALWAYS;
+    }
+
+    @NotNull
+    private static String asApacheChecksumPolicy(@NotNull ApacheChecksumPolicy checksumPolicy) {
+        switch (checksumPolicy) {
+            case FAIL:
+                return org.eclipse.aether.repository.RepositoryPolicy.CHECKSUM_POLICY_FAIL;
+            case WARN:
+                return org.eclipse.aether.repository.RepositoryPolicy.CHECKSUM_POLICY_WARN;
+            case IGNORE:
+                return org.eclipse.aether.repository.RepositoryPolicy.CHECKSUM_POLICY_IGNORE;
+            default:
+                throw new IllegalArgumentException("Unsupported checksum policy: " + checksumPolicy);
+        }
+    }
+
     @NotNull
     @Override
     public LocalRepository getLocalRepository() {
@@ -173,6 +337,16 @@ final class ApacheMavenResolver implements MavenResolver, Closeable {
         return dependencyResolver;
     }
 
+    @NotNull
+    public ApacheMavenResolverOptions getOptions() {
+        return options;
+    }
+
+    @NotNull
+    public ApacheResolutionMetrics getMetrics() {
+        return metricsRecorder.snapshot();
+    }
+
     @NotNull
     @Override
     public List<ResolvedArtifact> resolve(
@@ -180,35 +354,671 @@ final class ApacheMavenResolver implements MavenResolver, Closeable {
             throws MavenResolutionException {
         Validation.notNull(dependencies, "Dependencies must not be null.");
         Validation.notNull(dependencyScopes, "Dependency scopes must not be null.");
-        List<org.eclipse.aether.graph.Dependency> apacheDependencies = asApacheDependencies(
-                dependencies,
-                dependencyScopes.length == 0
-                        ? DEFAULT_RESOLVING_SCOPES
-                        : new HashSet<>(Arrays.asList(dependencyScopes)));
+        Set<DependencyScope> resolvingScopes = asResolvingScopes(dependencyScopes);
+        return resolve(newCallSession(), asApacheDependencies(dependencies, resolvingScopes), resolvingScopes);
+    }
+
+    @NotNull
+    public CompletableFuture<List<ResolvedArtifact>> resolveAsync(
+            @NotNull List<Dependency> dependencies, @NotNull DependencyScope... dependencyScopes) {
+        return resolveAsync(dependencies, getExecutor(), null, dependencyScopes);
+    }
+
+    @NotNull
+    public CompletableFuture<List<ResolvedArtifact>> resolveAsync(
+            @NotNull List<Dependency> dependencies,
+            @NotNull Executor executor,
+            @NotNull DependencyScope... dependencyScopes) {
+        return resolveAsync(dependencies, executor, null, dependencyScopes);
+    }
+
+    @NotNull
+    public CompletableFuture<List<ResolvedArtifact>> resolveAsync(
+            @NotNull List<Dependency> dependencies,
+            @NotNull Executor executor,
+            @Nullable Duration timeout,
+            @NotNull DependencyScope... dependencyScopes) {
+        Validation.notNull(dependencies, "Dependencies must not be null.");
+        Validation.notNull(executor, "Executor must not be null.");
+        Validation.notNull(dependencyScopes, "Dependency scopes must not be null.");
+        Set<DependencyScope> resolvingScopes = asResolvingScopes(dependencyScopes);
+        List<org.eclipse.aether.graph.Dependency> apacheDependencies =
+                asApacheDependencies(dependencies, resolvingScopes);
+        CompletableFuture<List<ResolvedArtifact>> future = new CompletableFuture<>();
+        if (timeout != null) {
+            ScheduledFuture<?> deadline = getScheduler()
+                    .schedule(
+                            () -> future.completeExceptionally(new TimeoutException(
+                                    String.format("Dependency resolution did not complete within %s.", timeout))),
+                            timeout.toNanos(),
+                            TimeUnit.NANOSECONDS);
+            future.whenComplete((result, throwable) -> deadline.cancel(false));
+        }
+        RepositorySystemSession cancellableSession = newCallSession(new TransferCancellation(future));
+        try {
+            executor.execute(() -> {
+                if (future.isDone()) {
+                    return;
+                }
+                try {
+                    future.complete(resolve(cancellableSession, apacheDependencies, resolvingScopes));
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    @NotNull
+    public ApacheResolution resolveGraph(
+            @NotNull List<Dependency> dependencies, @NotNull DependencyScope... dependencyScopes)
+            throws MavenResolutionException {
+        return resolveIncrementally(dependencies, dependencyScopes).getResolution();
+    }
+
+    @NotNull
+    public ApacheIncrementalResolution resolveIncrementally(
+            @NotNull List<Dependency> dependencies, @NotNull DependencyScope... dependencyScopes)
+            throws MavenResolutionException {
+        Validation.notNull(dependencies, "Dependencies must not be null.");
+        Validation.notNull(dependencyScopes, "Dependency scopes must not be null.");
+        Set<DependencyScope> resolvingScopes = asResolvingScopes(dependencyScopes);
+        List<org.eclipse.aether.graph.Dependency> apacheDependencies =
+                asApacheDependencies(dependencies, resolvingScopes);
+        metricsRecorder.recordResolution();
+        return inResolutionMode(newCallSession(), it -> resolveGraph(it, null, apacheDependencies));
+    }
+
+    @NotNull
+    public ApacheIncrementalResolution resolveIncrementally(
+            @NotNull ApacheIncrementalResolution previous,
+            @NotNull List<Dependency> dependencies,
+            @NotNull DependencyScope... dependencyScopes)
+            throws MavenResolutionException {
+        Validation.notNull(previous, "Previous resolution must not be null.");
+        Validation.notNull(dependencies, "Dependencies must not be null.");
+        Validation.notNull(dependencyScopes, "Dependency scopes must not be null.");
+        Set<DependencyScope> resolvingScopes = asResolvingScopes(dependencyScopes);
+        List<org.eclipse.aether.graph.Dependency> apacheDependencies =
+                asApacheDependencies(dependencies, resolvingScopes);
+        ApacheIncrementalResolution reusable =
+                apacheRemoteRepositories.equals(previous.getRepositories()) ? previous : null;
+        metricsRecorder.recordResolution();
+        return inResolutionMode(newCallSession(), it -> resolveGraph(it, reusable, apacheDependencies));
+    }
+
+    @NotNull
+    public <K> ApacheBatchResolution<K> resolveAll(
+            @NotNull Map<K, List<Dependency>> dependencies, @NotNull DependencyScope... dependencyScopes) {
+        return resolveAll(dependencies, getExecutor(), dependencyScopes);
+    }
+
+    @NotNull
+    public <K> ApacheBatchResolution<K> resolveAll(
+            @NotNull Map<K, List<Dependency>> dependencies,
+            @NotNull Executor executor,
+            @NotNull DependencyScope... dependencyScopes) {
+        Validation.notNull(dependencies, "Dependencies must not be null.");
+        Validation.notNull(executor, "Executor must not be null.");
+        Validation.notNull(dependencyScopes, "Dependency scopes must not be null.");
+        Set<DependencyScope> resolvingScopes = asResolvingScopes(dependencyScopes);
+        Map<List<org.eclipse.aether.graph.Dependency>, List<K>> requests = new LinkedHashMap<>();
+        for (Map.Entry<K, List<Dependency>> entry : dependencies.entrySet()) {
+            List<Dependency> value = Validation.requireNotNull(entry.getValue(), "Dependencies must not be null.");
+            requests.computeIfAbsent(asApacheDependencies(value, resolvingScopes), it -> new ArrayList<>(1))
+                    .add(entry.getKey());
+        }
+        Map<List<org.eclipse.aether.graph.Dependency>, CompletableFuture<List<ResolvedArtifact>>> futures =
+                new LinkedHashMap<>(requests.size());
+        for (List<org.eclipse.aether.graph.Dependency> request : requests.keySet()) {
+            futures.put(
+                    request,
+                    CompletableFuture.supplyAsync(
+                            () -> resolve(newCallSession(), request, resolvingScopes), executor));
+        }
+        Map<K, List<ResolvedArtifact>> results = new LinkedHashMap<>(dependencies.size());
+        Map<K, MavenResolutionException> failures = new LinkedHashMap<>();
+        for (Map.Entry<List<org.eclipse.aether.graph.Dependency>, CompletableFuture<List<ResolvedArtifact>>> entry :
+                futures.entrySet()) {
+            List<K> keys = requests.get(entry.getKey());
+            try {
+                List<ResolvedArtifact> resolvedArtifacts = entry.getValue().join();
+                for (K key : keys) {
+                    results.put(key, resolvedArtifacts);
+                }
+            } catch (CompletionException e) {
+                MavenResolutionException exception = asMavenResolutionException(e.getCause());
+                for (K key : keys) {
+                    failures.put(key, exception);
+                }
+            }
+        }
+        return new ApacheBatchResolution<>(results, failures);
+    }
+
+    @NotNull
+    public ApacheArtifactClassLoader newClassLoader(
+            @NotNull List<ResolvedArtifact> resolvedArtifacts, @Nullable ClassLoader parent) {
+        Validation.notNull(resolvedArtifacts, "Resolved artifacts must not be null.");
+        List<File> jars = new ArrayList<>(resolvedArtifacts.size());
+        for (ResolvedArtifact resolvedArtifact : resolvedArtifacts) {
+            File file = resolvedArtifact.getFile();
+            if ("jar".equals(resolvedArtifact.getExtension()) && file != null && file.isFile()) {
+                jars.add(file);
+            }
+        }
+        return new ApacheArtifactClassLoader(jars, classPathIndex.indexOf(jars), parent);
+    }
+
+    public void exportBundle(
+            @NotNull Path bundle, @NotNull List<Dependency> dependencies, @NotNull DependencyScope... dependencyScopes)
+            throws MavenResolutionException {
+        Validation.notNull(dependencies, "Dependencies must not be null.");
+        exportBundle(bundle, Collections.singletonList(dependencies), dependencyScopes);
+    }
+
+    public void exportBundle(
+            @NotNull Path bundle,
+            @NotNull Collection<List<Dependency>> dependencies,
+            @NotNull DependencyScope... dependencyScopes)
+            throws MavenResolutionException {
+        Validation.notNull(bundle, "Bundle must not be null.");
+        Validation.notNull(dependencies, "Dependencies must not be null.");
+        Validation.notNull(dependencyScopes, "Dependency scopes must not be null.");
+        Set<DependencyScope> resolvingScopes = asResolvingScopes(dependencyScopes);
+        Map<String, List<ResolvedArtifact>> resolutions = new LinkedHashMap<>(dependencies.size());
+        for (List<Dependency> request : dependencies) {
+            Validation.notNull(request, "Dependencies must not be null.");
+            List<org.eclipse.aether.graph.Dependency> apacheDependencies =
+                    asApacheDependencies(request, resolvingScopes);
+            resolutions.put(
+                    ApacheResolutionCache.keyOf(apacheDependencies, resolvingScopes, Collections.emptyList()),
+                    resolve(newCallSession(), apacheDependencies, resolvingScopes));
+        }
+        try {
+            ApacheResolutionBundle.write(
+                    bundle,
+                    resolutions,
+                    apacheLocalRepository.getBasedir(),
+                    session.getLocalRepositoryManager(),
+                    integrityIndex);
+        } catch (IOException e) {
+            throw new MavenResolutionException(e);
+        } finally {
+            integrityIndex.flush();
+        }
+    }
+
+    @NotNull
+    private List<ResolvedArtifact> resolve(
+            @NotNull RepositorySystemSession session,
+            @NotNull List<org.eclipse.aether.graph.Dependency> apacheDependencies,
+            @NotNull Set<DependencyScope> resolvingScopes) {
         if (apacheDependencies.isEmpty()) {
             return Collections.emptyList();
         }
-        DefaultRepositorySystemSession session = MavenRepositorySystemUtils.newSession();
-        session.setLocalRepositoryManager(system.newLocalRepositoryManager(session, apacheLocalRepository));
-        session.setTransferListener(new TransferLog());
-        session.setReadOnly();
-        List<org.eclipse.aether.repository.RemoteRepository> apacheRemoteRepositories =
-                system.newResolutionRepositories(session, this.apacheRemoteRepositories);
+        if (bundle != null) {
+            List<ResolvedArtifact> bundled = bundle.load(
+                    ApacheResolutionCache.keyOf(apacheDependencies, resolvingScopes, Collections.emptyList()));
+            if (bundled != null) {
+                metricsRecorder.recordCached();
+                return bundled;
+            }
+        }
+        String cacheKey = null;
+        if (ApacheResolutionCache.isCacheable(apacheDependencies)) {
+            cacheKey = ApacheResolutionCache.keyOf(apacheDependencies, resolvingScopes, this.apacheRemoteRepositories);
+            List<ResolvedArtifact> cached = resolutionCache.load(cacheKey);
+            if (cached != null) {
+                integrityIndex.flush();
+                metricsRecorder.recordCached();
+                return cached;
+            }
+        }
+        metricsRecorder.recordResolution();
+        List<ResolvedArtifact> resolvedArtifacts =
+                inResolutionMode(session, it -> resolvedArtifactsOf(collectAndResolve(it, apacheDependencies)));
+        invalidateChangedSnapshots(resolvedArtifacts);
+        if (cacheKey != null && !(updatingSnapshots && hasSnapshots(resolvedArtifacts))) {
+            resolutionCache.store(cacheKey, resolvedArtifacts);
+        }
+        integrityIndex.flush();
+        return resolvedArtifacts;
+    }
+
+    @NotNull
+    private <T> T inResolutionMode(
+            @NotNull RepositorySystemSession session, @NotNull Function<RepositorySystemSession, T> resolution) {
+        try {
+            if (resolutionMode != ApacheResolutionMode.OFFLINE_FIRST) {
+                return resolution.apply(session);
+            }
+            try {
+                return resolution.apply(asOffline(session));
+            } catch (MavenResolutionException e) {
+                Log.debug(() -> String.format(
+                        "Offline resolution incomplete, falling back to remote repositories: %s", e.getMessage()));
+                return resolution.apply(session);
+            }
+        } finally {
+            if (negativeCache != null) {
+                negativeCache.flush();
+            }
+        }
+    }
 
+    @NotNull
+    private ApacheIncrementalResolution resolveGraph(
+            @NotNull RepositorySystemSession session,
+            @Nullable ApacheIncrementalResolution previous,
+            @NotNull List<org.eclipse.aether.graph.Dependency> apacheDependencies) {
+        Map<org.eclipse.aether.graph.Dependency, DependencyNode> subtrees = new LinkedHashMap<>();
+        List<org.eclipse.aether.graph.Dependency> changedDependencies = new ArrayList<>();
+        for (org.eclipse.aether.graph.Dependency apacheDependency : apacheDependencies) {
+            if (subtrees.containsKey(apacheDependency)) {
+                continue;
+            }
+            DependencyNode subtree =
+                    previous == null ? null : previous.getSubtrees().get(apacheDependency);
+            subtrees.put(apacheDependency, subtree);
+            if (subtree == null) {
+                changedDependencies.add(apacheDependency);
+            }
+        }
+        if (subtrees.isEmpty()) {
+            return new ApacheIncrementalResolution(
+                    ApacheResolution.of(
+                            ApacheDependencyGraph.of(
+                                    new DefaultDependencyNode((org.eclipse.aether.graph.Dependency) null),
+                                    Collections.emptyList()),
+                            Collections.emptyList()),
+                    apacheRemoteRepositories,
+                    subtrees);
+        }
+        List<org.eclipse.aether.repository.RemoteRepository> repositories =
+                repositoryHealth.order(resolutionRepositories);
+        long collectStart = System.nanoTime();
+        List<Exception> collectExceptions = Collections.emptyList();
+        DependencyNode root;
+        try {
+            if (!changedDependencies.isEmpty()) {
+                DefaultRepositorySystemSession collectingSession = new DefaultRepositorySystemSession(session);
+                collectingSession.setDependencyGraphTransformer(null);
+                collectingSession.setConfigProperty(CONFIG_PROP_COLLECTOR_IMPL, "df");
+                collectingSession.setReadOnly();
+                CollectResult collectResult = collect(
+                        collectingSession,
+                        new CollectRequest(
+                                (org.eclipse.aether.graph.Dependency) null, changedDependencies, repositories));
+                collectExceptions = collectResult.getExceptions();
+                List<DependencyNode> collected = collectResult.getRoot().getChildren();
+                if (collected.size() != changedDependencies.size()) {
+                    throw new MavenResolutionException(String.format(
+                            "Collected %d subtrees for %d dependencies.",
+                            collected.size(), changedDependencies.size()));
+                }
+                for (int i = 0; i < collected.size(); i++) {
+                    subtrees.put(changedDependencies.get(i), collected.get(i));
+                }
+            }
+            Map<DependencyNode, DependencyNode> copies = new IdentityHashMap<>();
+            List<DependencyNode> children = new ArrayList<>(subtrees.size());
+            for (DependencyNode subtree : subtrees.values()) {
+                children.add(copyOf(subtree, copies));
+            }
+            DefaultDependencyNode graph = new DefaultDependencyNode((org.eclipse.aether.graph.Dependency) null);
+            graph.setRepositories(repositories);
+            graph.setChildren(children);
+            DependencyGraphTransformer transformer = session.getDependencyGraphTransformer();
+            root = transformer == null
+                    ? graph
+                    : transformer.transformGraph(graph, new TransformationContext(session));
+        } catch (RepositoryException e) {
+            throw new MavenResolutionException(e);
+        } finally {
+            metricsRecorder.recordCollect(System.nanoTime() - collectStart);
+        }
+        long resolveStart = System.nanoTime();
         DependencyResult dependencyResult;
         try {
-            dependencyResult = system.resolveDependencies(
+            dependencyResult = resolveDependencies(session, root);
+        } finally {
+            metricsRecorder.recordResolve(System.nanoTime() - resolveStart);
+        }
+        dependencyResult.setCollectExceptions(collectExceptions);
+        List<ResolvedArtifact> resolvedArtifacts = resolvedArtifactsOf(dependencyResult);
+        invalidateChangedSnapshots(resolvedArtifacts);
+        integrityIndex.flush();
+        return new ApacheIncrementalResolution(
+                ApacheResolution.of(
+                        ApacheDependencyGraph.of(dependencyResult.getRoot(), subtrees.values()), resolvedArtifacts),
+                apacheRemoteRepositories,
+                subtrees);
+    }
+
+    @NotNull
+    private List<ResolvedArtifact> verified(@NotNull List<ResolvedArtifact> resolvedArtifacts) {
+        if (checksumPolicy == ApacheChecksumPolicy.IGNORE || resolvedArtifacts.isEmpty()) {
+            return resolvedArtifacts;
+        }
+        List<File> files = new ArrayList<>(resolvedArtifacts.size());
+        for (ResolvedArtifact resolvedArtifact : resolvedArtifacts) {
+            files.add(resolvedArtifact.getFile());
+        }
+        List<String> mismatches = integrityIndex.verify(files, checksumPolicy, getExecutor());
+        if (mismatches.isEmpty()) {
+            return resolvedArtifacts;
+        }
+        metricsRecorder.recordChecksumFailures(mismatches.size());
+        if (checksumPolicy == ApacheChecksumPolicy.FAIL) {
+            throw new MavenResolutionException(String.join(System.lineSeparator(), mismatches));
+        }
+        for (String mismatch : mismatches) {
+            Log.warn(mismatch);
+        }
+        return resolvedArtifacts;
+    }
+
+    @NotNull
+    private static DependencyNode copyOf(
+            @NotNull DependencyNode node, @NotNull Map<DependencyNode, DependencyNode> copies) {
+        DependencyNode copy = copies.get(node);
+        if (copy != null) {
+            return copy;
+        }
+        DefaultDependencyNode created = new DefaultDependencyNode(node);
+        copies.put(node, created);
+        List<DependencyNode> children = node.getChildren();
+        List<DependencyNode> copiedChildren = new ArrayList<>(children.size());
+        for (DependencyNode child : children) {
+            copiedChildren.add(copyOf(child, copies));
+        }
+        created.setChildren(copiedChildren);
+        return created;
+    }
+
+    @NotNull
+    private DependencyResult collectAndResolve(
+            @NotNull RepositorySystemSession session,
+            @NotNull List<org.eclipse.aether.graph.Dependency> apacheDependencies) {
+        long collectStart = System.nanoTime();
+        CollectResult collectResult;
+        try {
+            collectResult = collect(
                     session,
-                    new DependencyRequest(
-                            new CollectRequest(
-                                    (org.eclipse.aether.graph.Dependency) null,
-                                    apacheDependencies,
-                                    apacheRemoteRepositories),
-                            null));
+                    new CollectRequest(
+                            (org.eclipse.aether.graph.Dependency) null,
+                            apacheDependencies,
+                            repositoryHealth.order(resolutionRepositories)));
+        } finally {
+            metricsRecorder.recordCollect(System.nanoTime() - collectStart);
+        }
+        long resolveStart = System.nanoTime();
+        DependencyResult dependencyResult;
+        try {
+            dependencyResult = resolveDependencies(session, collectResult.getRoot());
+        } finally {
+            metricsRecorder.recordResolve(System.nanoTime() - resolveStart);
+        }
+        dependencyResult.setCollectExceptions(collectResult.getExceptions());
+        return dependencyResult;
+    }
+
+    @NotNull
+    private CollectResult collect(@NotNull RepositorySystemSession session, @NotNull CollectRequest collectRequest) {
+        try {
+            return system.collectDependencies(session, collectRequest);
+        } catch (DependencyCollectionException e) {
+            CollectResult collectResult = e.getResult();
+            if (failureMode != ApacheFailureMode.AGGREGATE
+                    || collectResult == null
+                    || collectResult.getRoot() == null) {
+                throw new MavenResolutionException(e);
+            }
+            return collectResult;
+        }
+    }
+
+    @NotNull
+    private DependencyResult resolveDependencies(
+            @NotNull RepositorySystemSession session, @NotNull DependencyNode root) {
+        try {
+            return system.resolveDependencies(session, new DependencyRequest(root, null));
         } catch (DependencyResolutionException e) {
-            throw new MavenResolutionException(e);
+            DependencyResult dependencyResult = e.getResult();
+            if (failureMode != ApacheFailureMode.AGGREGATE || dependencyResult == null) {
+                throw new MavenResolutionException(e);
+            }
+            return dependencyResult;
+        }
+    }
+
+    @NotNull
+    private List<ResolvedArtifact> resolvedArtifactsOf(@NotNull DependencyResult dependencyResult) {
+        if (failureMode != ApacheFailureMode.AGGREGATE) {
+            return verified(asResolvedArtifacts(dependencyResult.getArtifactResults()));
+        }
+        List<Exception> failures = new ArrayList<>(dependencyResult.getCollectExceptions());
+        List<ResolvedArtifact> resolvedArtifacts = new ArrayList<>(dependencyResult.getArtifactResults().size());
+        for (ArtifactResult artifactResult : dependencyResult.getArtifactResults()) {
+            Artifact response = artifactResult.getArtifact();
+            if (artifactResult.isResolved() && response != null) {
+                resolvedArtifacts.add(new ApacheResolvedArtifact(response));
+            } else {
+                failures.add(new ArtifactResolutionException(Collections.singletonList(artifactResult)));
+            }
+        }
+        verified(resolvedArtifacts);
+        if (!failures.isEmpty()) {
+            throw new ApacheResolutionException(resolvedArtifacts, failures);
+        }
+        return resolvedArtifacts;
+    }
+
+    @NotNull
+    private static Set<DependencyScope> asResolvingScopes(@NotNull DependencyScope[] dependencyScopes) {
+        return dependencyScopes.length == 0 ? DEFAULT_RESOLVING_SCOPES : new HashSet<>(Arrays.asList(dependencyScopes));
+    }
+
+    @NotNull
+    private static MavenResolutionException asMavenResolutionException(@NotNull Throwable throwable) {
+        if (throwable instanceof MavenResolutionException) {
+            return (MavenResolutionException) throwable;
         }
-        return asResolvedArtifacts(dependencyResult.getArtifactResults());
+        return new MavenResolutionException(throwable);
+    }
+
+    @NotNull
+    private ExecutorService getExecutor() {
+        ExecutorService executor = this.executor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = this.executor;
+                if (executor == null) {
+                    int threads = options.getResolutionThreads();
+                    ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                            threads,
+                            threads,
+                            EXECUTOR_KEEP_ALIVE_SECONDS,
+                            TimeUnit.SECONDS,
+                            new LinkedBlockingQueue<>(),
+                            newThreadFactory("sugar-maven-resolver-"));
+                    pool.allowCoreThreadTimeOut(true);
+                    executor = pool;
+                    this.executor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    @NotNull
+    private ScheduledExecutorService getScheduler() {
+        ScheduledExecutorService scheduler = this.scheduler;
+        if (scheduler == null) {
+            synchronized (this) {
+                scheduler = this.scheduler;
+                if (scheduler == null) {
+                    scheduler = Executors.newSingleThreadScheduledExecutor(
+                            newThreadFactory("sugar-maven-resolver-scheduler-"));
+                    this.scheduler = scheduler;
+                }
+            }
+        }
+        return scheduler;
+    }
+
+    @NotNull
+    private static ThreadFactory newThreadFactory(@NotNull String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static boolean isUpdatingSnapshots(
+            @NotNull List<org.eclipse.aether.repository.RemoteRepository> repositories) {
+        for (org.eclipse.aether.repository.RemoteRepository repository : repositories) {
+            if (!org.eclipse.aether.repository.RepositoryPolicy.UPDATE_POLICY_NEVER.equals(
+                    repository.getPolicy(true).getUpdatePolicy())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isCallScoped(@NotNull Object key) {
+        return VERSION_RESOLUTION_KEY.equals(key.getClass().getName());
+    }
+
+    private void invalidateChangedSnapshots(@NotNull List<ResolvedArtifact> resolvedArtifacts) {
+        if (!updatingSnapshots) {
+            return;
+        }
+        boolean changed = false;
+        for (ResolvedArtifact resolvedArtifact : resolvedArtifacts) {
+            if (!resolvedArtifact.getVersion().endsWith("SNAPSHOT")) {
+                continue;
+            }
+            String previous = snapshotVersions.put(
+                    resolvedArtifact.getGroupId() + ':' + resolvedArtifact.getArtifactId() + ':'
+                            + resolvedArtifact.getExtension() + ':' + resolvedArtifact.getClassifier() + ':'
+                            + resolvedArtifact.getVersion(),
+                    resolvedArtifact.getActualVersion());
+            changed |= previous != null && !previous.equals(resolvedArtifact.getActualVersion());
+        }
+        if (changed) {
+            repositoryCache.invalidate();
+        }
+    }
+
+    private static boolean hasSnapshots(@NotNull List<ResolvedArtifact> resolvedArtifacts) {
+        for (ResolvedArtifact resolvedArtifact : resolvedArtifacts) {
+            if (resolvedArtifact.getVersion().endsWith("SNAPSHOT")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @NotNull
+    private RepositorySystemSession newCallSession() {
+        return newCallSession(null);
+    }
+
+    @NotNull
+    private RepositorySystemSession newCallSession(@Nullable TransferListener transferListener) {
+        DefaultRepositorySystemSession callSession = new DefaultRepositorySystemSession(session);
+        callSession.setData(new DefaultSessionData());
+        if (updatingSnapshots) {
+            callSession.setCache(new ApacheRepositoryCache(
+                    REPOSITORY_CACHE_SIZE, repositoryCache, ApacheMavenResolver::isCallScoped));
+        }
+        if (transferListener != null) {
+            callSession.setTransferListener(
+                    ChainedTransferListener.newInstance(session.getTransferListener(), transferListener));
+        }
+        callSession.setReadOnly();
+        return callSession;
+    }
+
+    @NotNull
+    private RepositorySystemSession asOffline(@NotNull RepositorySystemSession session) {
+        DefaultRepositorySystemSession offlineSession = new DefaultRepositorySystemSession(session);
+        offlineSession.setOffline(true);
+        offlineSession.setCache(offlineRepositoryCache);
+        offlineSession.setArtifactDescriptorPolicy(new SimpleArtifactDescriptorPolicy(false, true));
+        offlineSession.setReadOnly();
+        return offlineSession;
+    }
+
+    @NotNull
+    private RepositorySystemSession newSession(boolean offline) {
+        DefaultRepositorySystemSession session = MavenRepositorySystemUtils.newSession();
+        session.setOffline(offline);
+        session.setLocalRepositoryManager(system.newLocalRepositoryManager(session, apacheLocalRepository));
+        List<TransferListener> transferListeners = new ArrayList<>(4);
+        transferListeners.add(new TransferLog());
+        transferListeners.add(metricsRecorder.getTransferListener());
+        transferListeners.add(repositoryHealth.getTransferListener());
+        if (negativeCache != null) {
+            transferListeners.add(negativeCache.getTransferListener());
+        }
+        session.setTransferListener(new ChainedTransferListener(transferListeners));
+        session.setRepositoryListener(metricsRecorder.getRepositoryListener());
+        session.setCache(repositoryCache);
+        session.setConfigProperty(CONFIG_PROP_DESCRIPTOR_POOL, "weak");
+        session.setConfigProperty(ApacheRepositoryHealth.CONFIG_PROP_REPOSITORY_HEALTH, repositoryHealth);
+        if (negativeCache != null) {
+            session.setConfigProperty(ApacheNegativeCache.CONFIG_PROP_NEGATIVE_CACHE, negativeCache);
+        }
+        switch (options.getLockingMode()) {
+            case FILE:
+                session.setConfigProperty(CONFIG_PROP_LOCK_FACTORY, "file-lock");
+                session.setConfigProperty(CONFIG_PROP_LOCK_NAME_MAPPER, "file-gav");
+                break;
+            case LOCAL:
+                session.setConfigProperty(CONFIG_PROP_LOCK_FACTORY, "rwlock-local");
+                session.setConfigProperty(CONFIG_PROP_LOCK_NAME_MAPPER, "gav");
+                break;
+            default:
+                throw new IllegalStateException("Unsupported locking mode: " + options.getLockingMode());
+        }
+        session.setConfigProperty(CONFIG_PROP_LOCK_TIME, options.getLockTimeout().toMillis());
+        session.setConfigProperty(CONFIG_PROP_LOCK_TIME_UNIT, TimeUnit.MILLISECONDS.name());
+        session.setConfigProperty(ConfigurationProperties.CONNECT_TIMEOUT, asMillis(options.getConnectTimeout()));
+        session.setConfigProperty(ConfigurationProperties.REQUEST_TIMEOUT, asMillis(options.getRequestTimeout()));
+        session.setConfigProperty(CONFIG_PROP_CONNECTOR_THREADS, options.getRepositoryTransfers());
+        session.setConfigProperty(ConfigurationProperties.HTTP_REUSE_CONNECTIONS, options.isConnectionReuse());
+        session.setConfigProperty(
+                ConfigurationProperties.HTTP_CONNECTION_MAX_TTL,
+                (int) Math.min(Integer.MAX_VALUE, Math.max(1L, options.getConnectionTtl().getSeconds())));
+        session.setConfigProperty(
+                ConfigurationProperties.HTTP_MAX_CONNECTIONS_PER_ROUTE, options.getRouteConnections());
+        session.setConfigProperty(ConfigurationProperties.HTTP_RETRY_HANDLER_COUNT, options.getTransferRetries());
+        session.setConfigProperty(
+                ConfigurationProperties.HTTP_RETRY_HANDLER_INTERVAL, options.getTransferRetryInterval().toMillis());
+        int maximumTransfers = options.getMaximumTransfers();
+        if (maximumTransfers > 0) {
+            session.setConfigProperty(
+                    ApacheTransferLimiter.CONFIG_PROP_TRANSFER_LIMITER, new ApacheTransferLimiter(maximumTransfers));
+        }
+        if (options.isMetadataRevalidation()) {
+            session.setConfigProperty(
+                    ApacheMetadataValidators.CONFIG_PROP_METADATA_VALIDATORS,
+                    new ApacheMetadataValidators(apacheLocalRepository.getBasedir()));
+        }
+        session.setReadOnly();
+        return session;
+    }
+
+    private static int asMillis(@NotNull Duration duration) {
+        return (int) Math.min(Integer.MAX_VALUE, duration.toMillis());
     }
 
     @NotNull
@@ -218,7 +1028,89 @@ final class ApacheMavenResolver implements MavenResolver, Closeable {
 
     @Override
     public void close() {
-        system.shutdown();
+        ExecutorService executor = this.executor;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        ScheduledExecutorService scheduler = this.scheduler;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        repositoryCache.clear();
+        offlineRepositoryCache.clear();
+        integrityIndex.flush();
+        if (negativeCache != null) {
+            negativeCache.flush();
+        }
+        closeBundle(bundle);
+        lease.close();
+    }
+
+    private static void closeBundle(@Nullable ApacheResolutionBundle bundle) {
+        if (bundle == null) {
+            return;
+        }
+        try {
+            bundle.close();
+        } catch (IOException e) {
+            Log.debug(() -> String.format("Failed to close bundle: %s", e));
+        }
+    }
+
+    private static final class TransformationContext implements DependencyGraphTransformationContext {
+
+        private final RepositorySystemSession session;
+        private final Map<Object, Object> values = new HashMap<>();
+
+        private TransformationContext(@NotNull RepositorySystemSession session) {
+            this.session = session;
+        }
+
+        @Override
+        public RepositorySystemSession getSession() {
+            return session;
+        }
+
+        @Override
+        public Object get(Object key) {
+            return values.get(Validation.requireNotNull(key, "Key must not be null."));
+        }
+
+        @Override
+        public Object put(Object key, Object value) {
+            Validation.notNull(key, "Key must not be null.");
+            return value == null ? values.remove(key) : values.put(key, value);
+        }
+    }
+
+    private static final class TransferCancellation extends AbstractTransferListener {
+
+        private final Future<?> future;
+
+        private TransferCancellation(@NotNull Future<?> future) {
+            this.future = future;
+        }
+
+        @Override
+        public void transferInitiated(TransferEvent event) throws TransferCancelledException {
+            checkCancelled();
+        }
+
+        @Override
+        public void transferStarted(TransferEvent event) throws TransferCancelledException {
+            checkCancelled();
+        }
+
+        @Override
+        public void transferProgressed(TransferEvent event) throws TransferCancelledException {
+            checkCancelled();
+        }
+
+        private void checkCancelled() throws TransferCancelledException {
+            if (future.isDone()) {
+                throw new TransferCancelledException();
+            }
+        }
     }
 
     private static class TransferLog extends AbstractTransferListener {
@@ -226,13 +1118,14 @@ final class ApacheMavenResolver implements MavenResolver, Closeable {
         @Override
         public void transferStarted(TransferEvent event) {
             TransferResource resource = event.getResource();
-            Log.info(String.format("Downloading '%s'...", resource.getRepositoryUrl() + resource.getResourceName()));
+            Log.info(() ->
+                    String.format("Downloading '%s'...", resource.getRepositoryUrl() + resource.getResourceName()));
         }
 
         @Override
         public void transferSucceeded(TransferEvent event) {
             TransferResource resource = event.getResource();
-            Log.info(String.format("Downloaded '%s'.", resource.getRepositoryUrl() + resource.getResourceName()));
+            Log.info(() -> String.format("Downloaded '%s'.", resource.getRepositoryUrl() + resource.getResourceName()));
         }
 
         @Override
@@ -21,11 +21,26 @@ import team.idealstate.sugar.maven.resolver.api.MavenResolverConfiguration;
 import team.idealstate.sugar.maven.resolver.spi.MavenResolverFactory;
 
 public final class ApacheMavenResolverFactory implements MavenResolverFactory {
+
+    private static final ApacheSharedRepositorySystem SHARED_REPOSITORY_SYSTEM = new ApacheSharedRepositorySystem();
+
     @Override
     public MavenResolver create(MavenResolverConfiguration configuration) {
-        return new ApacheMavenResolver(
-                configuration.getLocalRepository(),
-                configuration.getRemoteRepositories(),
-                new ApacheDependencyResolver());
+        return create(configuration, ApacheMavenResolverOptions.fromSystemProperties());
+    }
+
+    public ApacheMavenResolver create(MavenResolverConfiguration configuration, ApacheMavenResolverOptions options) {
+        ApacheSharedRepositorySystem.Lease lease = SHARED_REPOSITORY_SYSTEM.acquire();
+        try {
+            return new ApacheMavenResolver(
+                    configuration.getLocalRepository(),
+                    configuration.getRemoteRepositories(),
+                    new ApacheDependencyResolver(),
+                    options,
+                    lease);
+        } catch (RuntimeException e) {
+            lease.close();
+            throw e;
+        }
     }
 }
@@ -0,0 +1,315 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+import team.idealstate.sugar.validate.annotation.Nullable;
+
+public final class ApacheMavenResolverOptions {
+
+    public static final String PREFIX = "sugar.maven.resolver.";
+    public static final String RESOLUTION_MODE = PREFIX + "resolutionMode";
+    public static final String REPOSITORY_COOLDOWN = PREFIX + "repositoryCooldown";
+    public static final String LOCKING_MODE = PREFIX + "lockingMode";
+    public static final String LOCK_TIMEOUT = PREFIX + "lockTimeout";
+    public static final String CHECKSUM_POLICY = PREFIX + "checksumPolicy";
+    public static final String BUNDLE = PREFIX + "bundle";
+    public static final String CONNECT_TIMEOUT = PREFIX + "connectTimeout";
+    public static final String REQUEST_TIMEOUT = PREFIX + "requestTimeout";
+    public static final String REPOSITORY_TRANSFERS = PREFIX + "repositoryTransfers";
+    public static final String MAXIMUM_TRANSFERS = PREFIX + "maximumTransfers";
+    public static final String CONNECTION_REUSE = PREFIX + "connectionReuse";
+    public static final String CONNECTION_TTL = PREFIX + "connectionTtl";
+    public static final String ROUTE_CONNECTIONS = PREFIX + "routeConnections";
+    public static final String TRANSFER_RETRIES = PREFIX + "transferRetries";
+    public static final String TRANSFER_RETRY_INTERVAL = PREFIX + "transferRetryInterval";
+    public static final String NEGATIVE_CACHE_TTL = PREFIX + "negativeCacheTtl";
+    public static final String FAILURE_MODE = PREFIX + "failureMode";
+    public static final String SNAPSHOT_UPDATE_INTERVAL = PREFIX + "snapshotUpdateInterval";
+    public static final String METADATA_REVALIDATION = PREFIX + "metadataRevalidation";
+    public static final String RESOLUTION_THREADS = PREFIX + "resolutionThreads";
+
+    private static final Duration DEFAULT_REPOSITORY_COOLDOWN = Duration.ofMinutes(1L);
+    private static final Duration DEFAULT_LOCK_TIMEOUT = Duration.ofSeconds(30L);
+    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10L);
+    private static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofMinutes(30L);
+    private static final Duration DEFAULT_CONNECTION_TTL = Duration.ofMinutes(5L);
+    private static final Duration DEFAULT_TRANSFER_RETRY_INTERVAL = Duration.ofSeconds(5L);
+    private static final int DEFAULT_REPOSITORY_TRANSFERS = 5;
+    private static final int DEFAULT_ROUTE_CONNECTIONS = 50;
+    private static final int DEFAULT_TRANSFER_RETRIES = 3;
+
+    private static final ApacheMavenResolverOptions DEFAULTS = new ApacheMavenResolverOptions(Collections.emptyMap());
+
+    private final Map<String, String> properties;
+
+    public ApacheMavenResolverOptions(@NotNull Map<String, String> properties) {
+        Validation.notNull(properties, "Properties must not be null.");
+        this.properties = properties.isEmpty() ? Collections.emptyMap() : new HashMap<>(properties);
+    }
+
+    @NotNull
+    public static ApacheMavenResolverOptions defaults() {
+        return DEFAULTS;
+    }
+
+    @NotNull
+    public static ApacheMavenResolverOptions fromSystemProperties() {
+        Properties systemProperties = System.getProperties();
+        Map<String, String> properties = new HashMap<>();
+        for (String name : systemProperties.stringPropertyNames()) {
+            if (name.startsWith(PREFIX)) {
+                properties.put(name, systemProperties.getProperty(name));
+            }
+        }
+        return properties.isEmpty() ? DEFAULTS : new ApacheMavenResolverOptions(properties);
+    }
+
+    @NotNull
+    public Map<String, String> getProperties() {
+        return Collections.unmodifiableMap(properties);
+    }
+
+    @NotNull
+    public ApacheResolutionMode getResolutionMode() {
+        return getEnum(RESOLUTION_MODE, ApacheResolutionMode.class, ApacheResolutionMode.ONLINE);
+    }
+
+    @NotNull
+    public Duration getRepositoryCooldown() {
+        Duration cooldown = getDuration(REPOSITORY_COOLDOWN, DEFAULT_REPOSITORY_COOLDOWN);
+        if (cooldown.isNegative()) {
+            throw new IllegalArgumentException(
+                    String.format("Illegal value '%s' of option '%s'.", cooldown, REPOSITORY_COOLDOWN));
+        }
+        return cooldown;
+    }
+
+    @NotNull
+    public ApacheLockingMode getLockingMode() {
+        return getEnum(LOCKING_MODE, ApacheLockingMode.class, ApacheLockingMode.LOCAL);
+    }
+
+    @NotNull
+    public Duration getLockTimeout() {
+        Duration timeout = getDuration(LOCK_TIMEOUT, DEFAULT_LOCK_TIMEOUT);
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException(
+                    String.format("Illegal value '%s' of option '%s'.", timeout, LOCK_TIMEOUT));
+        }
+        return timeout;
+    }
+
+    @NotNull
+    public ApacheChecksumPolicy getChecksumPolicy() {
+        return getEnum(CHECKSUM_POLICY, ApacheChecksumPolicy.class, ApacheChecksumPolicy.WARN);
+    }
+
+    @Nullable
+    public Path getBundle() {
+        String value = get(BUNDLE);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Paths.get(value);
+        } catch (InvalidPathException e) {
+            throw new IllegalArgumentException(String.format("Illegal value '%s' of option '%s'.", value, BUNDLE), e);
+        }
+    }
+
+    @NotNull
+    public Duration getConnectTimeout() {
+        return getPositiveDuration(CONNECT_TIMEOUT, DEFAULT_CONNECT_TIMEOUT);
+    }
+
+    @NotNull
+    public Duration getRequestTimeout() {
+        return getPositiveDuration(REQUEST_TIMEOUT, DEFAULT_REQUEST_TIMEOUT);
+    }
+
+    public int getRepositoryTransfers() {
+        return getPositiveInt(REPOSITORY_TRANSFERS, DEFAULT_REPOSITORY_TRANSFERS);
+    }
+
+    public int getMaximumTransfers() {
+        int maximumTransfers = getInt(MAXIMUM_TRANSFERS, 0);
+        if (maximumTransfers < 0) {
+            throw new IllegalArgumentException(
+                    String.format("Illegal value '%s' of option '%s'.", maximumTransfers, MAXIMUM_TRANSFERS));
+        }
+        return maximumTransfers;
+    }
+
+    public boolean isConnectionReuse() {
+        return getBoolean(CONNECTION_REUSE, true);
+    }
+
+    @NotNull
+    public Duration getConnectionTtl() {
+        return getPositiveDuration(CONNECTION_TTL, DEFAULT_CONNECTION_TTL);
+    }
+
+    public int getRouteConnections() {
+        return getPositiveInt(ROUTE_CONNECTIONS, DEFAULT_ROUTE_CONNECTIONS);
+    }
+
+    public int getTransferRetries() {
+        int retries = getInt(TRANSFER_RETRIES, DEFAULT_TRANSFER_RETRIES);
+        if (retries < 0) {
+            throw new IllegalArgumentException(
+                    String.format("Illegal value '%s' of option '%s'.", retries, TRANSFER_RETRIES));
+        }
+        return retries;
+    }
+
+    @NotNull
+    public Duration getTransferRetryInterval() {
+        Duration interval = getDuration(TRANSFER_RETRY_INTERVAL, DEFAULT_TRANSFER_RETRY_INTERVAL);
+        if (interval.isNegative()) {
+            throw new IllegalArgumentException(
+                    String.format("Illegal value '%s' of option '%s'.", interval, TRANSFER_RETRY_INTERVAL));
+        }
+        return interval;
+    }
+
+    @NotNull
+    public Duration getNegativeCacheTtl() {
+        Duration ttl = getDuration(NEGATIVE_CACHE_TTL, Duration.ZERO);
+        if (ttl.isNegative()) {
+            throw new IllegalArgumentException(
+                    String.format("Illegal value '%s' of option '%s'.", ttl, NEGATIVE_CACHE_TTL));
+        }
+        return ttl;
+    }
+
+    @NotNull
+    public ApacheFailureMode getFailureMode() {
+        return getEnum(FAILURE_MODE, ApacheFailureMode.class, ApacheFailureMode.FAIL_FAST);
+    }
+
+    @Nullable
+    public Duration getSnapshotUpdateInterval() {
+        if (get(SNAPSHOT_UPDATE_INTERVAL) == null) {
+            return null;
+        }
+        return getPositiveDuration(SNAPSHOT_UPDATE_INTERVAL, Duration.ZERO);
+    }
+
+    public boolean isMetadataRevalidation() {
+        return getBoolean(METADATA_REVALIDATION, false);
+    }
+
+    public int getResolutionThreads() {
+        return getPositiveInt(RESOLUTION_THREADS, Runtime.getRuntime().availableProcessors());
+    }
+
+    @Nullable
+    private String get(@NotNull String name) {
+        String value = properties.get(name);
+        if (value == null) {
+            return null;
+        }
+        value = value.trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    @NotNull
+    private <E extends Enum<E>> E getEnum(@NotNull String name, @NotNull Class<E> type, @NotNull E defaultValue) {
+        String value = get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Enum.valueOf(type, value.replace('-', '_').toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format("Illegal value '%s' of option '%s'.", value, name), e);
+        }
+    }
+
+    private int getInt(@NotNull String name, int defaultValue) {
+        String value = get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("Illegal value '%s' of option '%s'.", value, name), e);
+        }
+    }
+
+    private int getPositiveInt(@NotNull String name, int defaultValue) {
+        int value = getInt(name, defaultValue);
+        if (value <= 0) {
+            throw new IllegalArgumentException(String.format("Illegal value '%s' of option '%s'.", value, name));
+        }
+        return value;
+    }
+
+    private boolean getBoolean(@NotNull String name, boolean defaultValue) {
+        String value = get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        if ("true".equalsIgnoreCase(value)) {
+            return true;
+        }
+        if ("false".equalsIgnoreCase(value)) {
+            return false;
+        }
+        throw new IllegalArgumentException(String.format("Illegal value '%s' of option '%s'.", value, name));
+    }
+
+    @NotNull
+    private Duration getPositiveDuration(@NotNull String name, @NotNull Duration defaultValue) {
+        Duration value = getDuration(name, defaultValue);
+        if (value.isNegative() || value.isZero()) {
+            throw new IllegalArgumentException(String.format("Illegal value '%s' of option '%s'.", value, name));
+        }
+        return value;
+    }
+
+    @NotNull
+    private Duration getDuration(@NotNull String name, @NotNull Duration defaultValue) {
+        String value = get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Duration.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(String.format("Illegal value '%s' of option '%s'.", value, name), e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ApacheMavenResolverOptions{" + "properties=" + properties + '}';
+    }
+}
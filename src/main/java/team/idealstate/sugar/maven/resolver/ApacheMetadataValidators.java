@@ -0,0 +1,334 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Map;
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.HttpResponseException;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.spi.connector.transport.GetTask;
+import org.eclipse.aether.spi.connector.transport.PeekTask;
+import org.eclipse.aether.spi.connector.transport.PutTask;
+import org.eclipse.aether.spi.connector.transport.TransportListener;
+import org.eclipse.aether.spi.connector.transport.Transporter;
+import org.eclipse.aether.spi.connector.transport.TransporterFactory;
+import org.eclipse.aether.transfer.NoTransporterException;
+import org.eclipse.aether.transport.http.ChecksumExtractor;
+import team.idealstate.sugar.logging.Log;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+import team.idealstate.sugar.validate.annotation.Nullable;
+
+final class ApacheMetadataValidators {
+
+    static final String CONFIG_PROP_METADATA_VALIDATORS = ApacheMetadataValidators.class.getName();
+
+    private static final String HEADER = "# sugar-maven-resolver metadata v1";
+    private static final String METADATA = "maven-metadata.xml";
+    private static final ThreadLocal<Exchange> EXCHANGE = new ThreadLocal<>();
+
+    private final Path directory;
+
+    public ApacheMetadataValidators(@NotNull File localRepository) {
+        Validation.notNull(localRepository, "Local repository must not be null.");
+        this.directory = localRepository.toPath().resolve(".sugar").resolve("metadata");
+    }
+
+    @Nullable
+    private Entry load(@NotNull String url) {
+        Path path = directory.resolve(keyOf(url));
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+        try {
+            byte[] bytes = Files.readAllBytes(path);
+            int[] ends = new int[3];
+            int start = 0;
+            for (int i = 0; i < ends.length; i++) {
+                ends[i] = indexOf(bytes, start);
+                if (ends[i] < 0) {
+                    return null;
+                }
+                start = ends[i] + 1;
+            }
+            if (!HEADER.equals(new String(bytes, 0, ends[0], StandardCharsets.UTF_8))) {
+                return null;
+            }
+            String etag = new String(bytes, ends[0] + 1, ends[1] - ends[0] - 1, StandardCharsets.UTF_8);
+            String lastModified = new String(bytes, ends[1] + 1, ends[2] - ends[1] - 1, StandardCharsets.UTF_8);
+            return new Entry(
+                    etag.isEmpty() ? null : etag,
+                    lastModified.isEmpty() ? null : lastModified,
+                    Arrays.copyOfRange(bytes, ends[2] + 1, bytes.length));
+        } catch (IOException | RuntimeException e) {
+            Log.debug(() -> String.format("Failed to read metadata validators of '%s': %s", url, e));
+            return null;
+        }
+    }
+
+    private void store(
+            @NotNull String url, @Nullable String etag, @Nullable String lastModified, @NotNull byte[] body) {
+        String key = keyOf(url);
+        if (etag == null && lastModified == null) {
+            try {
+                Files.deleteIfExists(directory.resolve(key));
+            } catch (IOException e) {
+                Log.debug(() -> String.format("Failed to delete metadata validators of '%s': %s", url, e));
+            }
+            return;
+        }
+        Path temporary = null;
+        try {
+            Files.createDirectories(directory);
+            temporary = Files.createTempFile(directory, key, ".tmp");
+            try (OutputStream outputStream = Files.newOutputStream(temporary)) {
+                outputStream.write((HEADER + '\n' + (etag == null ? "" : etag) + '\n'
+                                + (lastModified == null ? "" : lastModified) + '\n')
+                        .getBytes(StandardCharsets.UTF_8));
+                outputStream.write(body);
+            }
+            Path target = directory.resolve(key);
+            try {
+                Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            temporary = null;
+        } catch (IOException | RuntimeException e) {
+            Log.debug(() -> String.format("Failed to write metadata validators of '%s': %s", url, e));
+        } finally {
+            if (temporary != null) {
+                try {
+                    Files.deleteIfExists(temporary);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    private static int indexOf(@NotNull byte[] bytes, int start) {
+        for (int i = start; i < bytes.length; i++) {
+            if (bytes[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @NotNull
+    private static String keyOf(@NotNull String url) {
+        return ApacheIntegrityIndex.toHex(
+                ApacheIntegrityIndex.digest("SHA-256").digest(url.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static boolean isMetadata(@NotNull URI location) {
+        String path = location.getPath();
+        if (path == null) {
+            return false;
+        }
+        return path.substring(path.lastIndexOf('/') + 1).startsWith(METADATA);
+    }
+
+    private static final class Entry {
+
+        private final String etag;
+        private final String lastModified;
+        private final byte[] body;
+
+        private Entry(@Nullable String etag, @Nullable String lastModified, @NotNull byte[] body) {
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.body = body;
+        }
+    }
+
+    static final class ValidatorExtractor extends ChecksumExtractor {
+
+        static final String NAME = "sugarMetadataValidators";
+
+        @Override
+        public void prepareRequest(HttpUriRequest request) {
+            Exchange exchange = EXCHANGE.get();
+            if (exchange == null || !HttpGet.METHOD_NAME.equals(request.getMethod())) {
+                return;
+            }
+            exchange.sent = true;
+            Entry entry = exchange.entry;
+            if (entry == null) {
+                return;
+            }
+            if (entry.etag != null) {
+                request.setHeader(HttpHeaders.IF_NONE_MATCH, entry.etag);
+            }
+            if (entry.lastModified != null) {
+                request.setHeader(HttpHeaders.IF_MODIFIED_SINCE, entry.lastModified);
+            }
+        }
+
+        @Override
+        public Map<String, String> extractChecksums(HttpResponse response) {
+            Exchange exchange = EXCHANGE.get();
+            if (exchange != null) {
+                exchange.etag = headerOf(response, HttpHeaders.ETAG);
+                exchange.lastModified = headerOf(response, HttpHeaders.LAST_MODIFIED);
+            }
+            return null;
+        }
+
+        @Nullable
+        private static String headerOf(@NotNull HttpResponse response, @NotNull String name) {
+            Header header = response.getFirstHeader(name);
+            return header == null ? null : header.getValue();
+        }
+    }
+
+    private static final class Exchange {
+
+        private final Entry entry;
+        private boolean sent;
+        private String etag;
+        private String lastModified;
+
+        private Exchange(@Nullable Entry entry) {
+            this.entry = entry;
+        }
+    }
+
+    static final class RevalidatingTransporterFactory implements TransporterFactory {
+
+        private final TransporterFactory delegate;
+
+        RevalidatingTransporterFactory(@NotNull TransporterFactory delegate) {
+            Validation.notNull(delegate, "Delegate must not be null.");
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Transporter newInstance(RepositorySystemSession session, RemoteRepository repository)
+                throws NoTransporterException {
+            Transporter transporter = delegate.newInstance(session, repository);
+            Object validators = session.getConfigProperties().get(CONFIG_PROP_METADATA_VALIDATORS);
+            String protocol = repository.getProtocol();
+            if (!(validators instanceof ApacheMetadataValidators)
+                    || !("http".equalsIgnoreCase(protocol) || "https".equalsIgnoreCase(protocol))) {
+                return transporter;
+            }
+            return new RevalidatingTransporter(transporter, (ApacheMetadataValidators) validators, repository);
+        }
+
+        @Override
+        public float getPriority() {
+            return delegate.getPriority();
+        }
+    }
+
+    private static final class RevalidatingTransporter implements Transporter {
+
+        private final Transporter delegate;
+        private final ApacheMetadataValidators validators;
+        private final URI baseUri;
+
+        private RevalidatingTransporter(
+                @NotNull Transporter delegate,
+                @NotNull ApacheMetadataValidators validators,
+                @NotNull RemoteRepository repository) {
+            this.delegate = delegate;
+            this.validators = validators;
+            String url = repository.getUrl();
+            this.baseUri = URI.create(url.endsWith("/") ? url : url + "/");
+        }
+
+        @Override
+        public int classify(Throwable error) {
+            return delegate.classify(error);
+        }
+
+        @Override
+        public void peek(PeekTask task) throws Exception {
+            delegate.peek(task);
+        }
+
+        @Override
+        public void get(GetTask task) throws Exception {
+            if (!isMetadata(task.getLocation())) {
+                delegate.get(task);
+                return;
+            }
+            String url = baseUri.resolve(task.getLocation()).toString();
+            Exchange exchange = new Exchange(validators.load(url));
+            EXCHANGE.set(exchange);
+            try {
+                delegate.get(task);
+            } catch (HttpResponseException e) {
+                if (e.getStatusCode() != HttpStatus.SC_NOT_MODIFIED || exchange.entry == null || !exchange.sent) {
+                    throw e;
+                }
+                Log.debug(() -> String.format("Metadata '%s' is not modified.", url));
+                write(task, exchange.entry.body);
+                return;
+            } finally {
+                EXCHANGE.remove();
+            }
+            if (exchange.sent) {
+                boolean validated = exchange.etag != null || exchange.lastModified != null;
+                validators.store(url, exchange.etag, exchange.lastModified, validated ? bodyOf(task) : new byte[0]);
+            }
+        }
+
+        @Override
+        public void put(PutTask task) throws Exception {
+            delegate.put(task);
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+
+        @NotNull
+        private static byte[] bodyOf(@NotNull GetTask task) throws IOException {
+            File file = task.getDataFile();
+            return file == null ? task.getDataBytes() : Files.readAllBytes(file.toPath());
+        }
+
+        private static void write(@NotNull GetTask task, @NotNull byte[] body) throws Exception {
+            TransportListener listener = task.getListener();
+            listener.transportStarted(0L, body.length);
+            try (OutputStream outputStream = task.newOutputStream()) {
+                outputStream.write(body);
+            }
+            listener.transportProgressed(ByteBuffer.wrap(body));
+        }
+    }
+}
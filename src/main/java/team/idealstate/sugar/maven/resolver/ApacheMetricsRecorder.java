@@ -0,0 +1,184 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.eclipse.aether.AbstractRepositoryListener;
+import org.eclipse.aether.RepositoryEvent;
+import org.eclipse.aether.RepositoryListener;
+import org.eclipse.aether.transfer.AbstractTransferListener;
+import org.eclipse.aether.transfer.ArtifactNotFoundException;
+import org.eclipse.aether.transfer.MetadataNotFoundException;
+import org.eclipse.aether.transfer.TransferEvent;
+import org.eclipse.aether.transfer.TransferListener;
+import org.eclipse.aether.transfer.TransferResource;
+import team.idealstate.sugar.validate.annotation.NotNull;
+
+final class ApacheMetricsRecorder {
+
+    private final LongAdder resolutions = new LongAdder();
+    private final LongAdder cachedResolutions = new LongAdder();
+    private final LongAdder collectNanos = new LongAdder();
+    private final LongAdder resolveNanos = new LongAdder();
+    private final LongAdder resolvedArtifacts = new LongAdder();
+    private final LongAdder remoteFetches = new LongAdder();
+    private final LongAdder checksumFailures = new LongAdder();
+    private final ConcurrentMap<String, RepositoryRecorder> repositories = new ConcurrentHashMap<>();
+    private final TransferListener transferListener = new TransferRecorder();
+    private final RepositoryListener repositoryListener = new ArtifactRecorder();
+
+    static boolean isNotFound(Exception exception) {
+        return exception instanceof ArtifactNotFoundException || exception instanceof MetadataNotFoundException;
+    }
+
+    @NotNull
+    public TransferListener getTransferListener() {
+        return transferListener;
+    }
+
+    @NotNull
+    public RepositoryListener getRepositoryListener() {
+        return repositoryListener;
+    }
+
+    public void recordCollect(long nanos) {
+        collectNanos.add(nanos);
+    }
+
+    public void recordResolution() {
+        resolutions.increment();
+    }
+
+    public void recordResolve(long nanos) {
+        resolveNanos.add(nanos);
+    }
+
+    public void recordCached() {
+        resolutions.increment();
+        cachedResolutions.increment();
+    }
+
+    public void recordChecksumFailures(int count) {
+        checksumFailures.add(count);
+    }
+
+    @NotNull
+    public ApacheResolutionMetrics snapshot() {
+        Map<String, ApacheResolutionMetrics.Repository> repositories = new TreeMap<>();
+        for (Map.Entry<String, RepositoryRecorder> entry : this.repositories.entrySet()) {
+            repositories.put(entry.getKey(), entry.getValue().snapshot());
+        }
+        long remoteFetches = this.remoteFetches.sum();
+        return new ApacheResolutionMetrics(
+                resolutions.sum(),
+                cachedResolutions.sum(),
+                Duration.ofNanos(collectNanos.sum()),
+                Duration.ofNanos(resolveNanos.sum()),
+                Math.max(0L, resolvedArtifacts.sum() - remoteFetches),
+                remoteFetches,
+                checksumFailures.sum(),
+                repositories);
+    }
+
+    @NotNull
+    private RepositoryRecorder repository(@NotNull TransferResource resource) {
+        String repositoryId = resource.getRepositoryId();
+        return repositories.computeIfAbsent(
+                repositoryId.isEmpty() ? resource.getRepositoryUrl() : repositoryId, it -> new RepositoryRecorder());
+    }
+
+    private static final class RepositoryRecorder {
+
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder notFound = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder transferredBytes = new LongAdder();
+        private final LongAdder totalLatency = new LongAdder();
+        private final AtomicLong maximumLatency = new AtomicLong();
+
+        private void recordLatency(@NotNull TransferResource resource) {
+            long latency = Math.max(0L, System.currentTimeMillis() - resource.getTransferStartTime());
+            totalLatency.add(latency);
+            maximumLatency.accumulateAndGet(latency, Math::max);
+        }
+
+        @NotNull
+        private ApacheResolutionMetrics.Repository snapshot() {
+            return new ApacheResolutionMetrics.Repository(
+                    requests.sum(),
+                    notFound.sum(),
+                    failures.sum(),
+                    transferredBytes.sum(),
+                    Duration.ofMillis(totalLatency.sum()),
+                    Duration.ofMillis(maximumLatency.get()));
+        }
+    }
+
+    private final class TransferRecorder extends AbstractTransferListener {
+
+        @Override
+        public void transferInitiated(TransferEvent event) {
+            repository(event.getResource()).requests.increment();
+        }
+
+        @Override
+        public void transferCorrupted(TransferEvent event) {
+            checksumFailures.increment();
+        }
+
+        @Override
+        public void transferSucceeded(TransferEvent event) {
+            RepositoryRecorder recorder = repository(event.getResource());
+            recorder.transferredBytes.add(event.getTransferredBytes());
+            recorder.recordLatency(event.getResource());
+        }
+
+        @Override
+        public void transferFailed(TransferEvent event) {
+            RepositoryRecorder recorder = repository(event.getResource());
+            if (isNotFound(event.getException())) {
+                recorder.notFound.increment();
+            } else {
+                recorder.failures.increment();
+            }
+            recorder.recordLatency(event.getResource());
+        }
+    }
+
+    private final class ArtifactRecorder extends AbstractRepositoryListener {
+
+        @Override
+        public void artifactResolved(RepositoryEvent event) {
+            if (event.getException() == null) {
+                resolvedArtifacts.increment();
+            }
+        }
+
+        @Override
+        public void artifactDownloaded(RepositoryEvent event) {
+            if (event.getException() == null) {
+                remoteFetches.increment();
+            }
+        }
+    }
+}
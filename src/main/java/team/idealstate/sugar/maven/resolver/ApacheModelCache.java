@@ -0,0 +1,74 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.maven.artifact.ArtifactUtils;
+import org.apache.maven.model.building.ModelCache;
+
+final class ApacheModelCache implements ModelCache {
+
+    private final Map<List<String>, Object> entries;
+
+    public ApacheModelCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be greater than 0.");
+        }
+        this.entries = new LinkedHashMap<List<String>, Object>(16, 0.75F, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<String>, Object> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    @Override
+    public void put(String groupId, String artifactId, String version, String tag, Object data) {
+        if (version == null || ArtifactUtils.isSnapshot(version)) {
+            return;
+        }
+        List<String> key = Arrays.asList(groupId, artifactId, version, tag);
+        synchronized (entries) {
+            entries.put(key, data);
+        }
+    }
+
+    @Override
+    public Object get(String groupId, String artifactId, String version, String tag) {
+        List<String> key = Arrays.asList(groupId, artifactId, version, tag);
+        synchronized (entries) {
+            return entries.get(key);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+}
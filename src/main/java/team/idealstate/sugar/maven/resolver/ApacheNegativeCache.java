@@ -0,0 +1,279 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.metadata.Metadata;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.spi.connector.filter.RemoteRepositoryFilter;
+import org.eclipse.aether.spi.connector.filter.RemoteRepositoryFilterSource;
+import org.eclipse.aether.spi.connector.layout.RepositoryLayout;
+import org.eclipse.aether.spi.connector.layout.RepositoryLayoutProvider;
+import org.eclipse.aether.transfer.AbstractTransferListener;
+import org.eclipse.aether.transfer.NoRepositoryLayoutException;
+import org.eclipse.aether.transfer.TransferEvent;
+import org.eclipse.aether.transfer.TransferListener;
+import org.eclipse.aether.transfer.TransferResource;
+import team.idealstate.sugar.logging.Log;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+import team.idealstate.sugar.validate.annotation.Nullable;
+
+final class ApacheNegativeCache {
+
+    static final String CONFIG_PROP_NEGATIVE_CACHE = ApacheNegativeCache.class.getName();
+
+    private static final String HEADER = "# sugar-maven-resolver negative v1";
+    private static final String SEPARATOR = "\t";
+    private static final int FIELDS = 3;
+
+    private final Path path;
+    private final long ttlMillis;
+    private final ConcurrentMap<String, Long> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final TransferListener transferListener = new MissTracker();
+    private volatile boolean loaded;
+
+    public ApacheNegativeCache(@NotNull File localRepository, @NotNull Duration ttl) {
+        Validation.notNull(localRepository, "Local repository must not be null.");
+        Validation.notNull(ttl, "TTL must not be null.");
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("TTL must be positive.");
+        }
+        this.path = localRepository.toPath().resolve(".sugar").resolve("negative").resolve("index");
+        this.ttlMillis = ttl.toMillis();
+    }
+
+    @NotNull
+    public TransferListener getTransferListener() {
+        return transferListener;
+    }
+
+    public boolean isMissing(@NotNull String repositoryUrl, @NotNull String resourceName) {
+        load();
+        String key = keyOf(repositoryUrl, resourceName);
+        Long expiresAt = entries.get(key);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt > System.currentTimeMillis()) {
+            return true;
+        }
+        if (entries.remove(key, expiresAt)) {
+            dirty.set(true);
+        }
+        return false;
+    }
+
+    public void flush() {
+        if (!dirty.compareAndSet(true, false)) {
+            return;
+        }
+        Path temporary = null;
+        try {
+            Path directory = path.getParent();
+            Files.createDirectories(directory);
+            temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            long now = System.currentTimeMillis();
+            try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                writer.write(HEADER);
+                writer.newLine();
+                for (Map.Entry<String, Long> entry : entries.entrySet()) {
+                    long expiresAt = entry.getValue();
+                    if (expiresAt <= now) {
+                        continue;
+                    }
+                    writer.write(expiresAt + SEPARATOR + entry.getKey());
+                    writer.newLine();
+                }
+            }
+            try {
+                Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+            temporary = null;
+        } catch (IOException | RuntimeException e) {
+            Log.debug(() -> String.format("Failed to write negative cache '%s': %s", path, e));
+        } finally {
+            if (temporary != null) {
+                try {
+                    Files.deleteIfExists(temporary);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    private void record(@NotNull TransferResource resource) {
+        load();
+        entries.put(
+                keyOf(resource.getRepositoryUrl(), resource.getResourceName()),
+                System.currentTimeMillis() + ttlMillis);
+        dirty.set(true);
+    }
+
+    private void forget(@NotNull TransferResource resource) {
+        load();
+        if (entries.remove(keyOf(resource.getRepositoryUrl(), resource.getResourceName())) != null) {
+            dirty.set(true);
+        }
+    }
+
+    private void load() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            if (Files.isRegularFile(path)) {
+                long now = System.currentTimeMillis();
+                try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                    if (HEADER.equals(reader.readLine())) {
+                        String line;
+                        while ((line = reader.readLine()) != null) {
+                            String[] fields = line.split(SEPARATOR, FIELDS);
+                            if (fields.length != FIELDS) {
+                                continue;
+                            }
+                            long expiresAt = Long.parseLong(fields[0]);
+                            if (expiresAt > now) {
+                                entries.putIfAbsent(fields[1] + SEPARATOR + fields[2], expiresAt);
+                            }
+                        }
+                    }
+                } catch (IOException | RuntimeException e) {
+                    Log.debug(() -> String.format("Failed to read negative cache '%s': %s", path, e));
+                }
+            }
+            loaded = true;
+        }
+    }
+
+    @NotNull
+    private static String keyOf(@NotNull String repositoryUrl, @NotNull String resourceName) {
+        String url = repositoryUrl.endsWith("/") ? repositoryUrl : repositoryUrl + "/";
+        return url + SEPARATOR + resourceName;
+    }
+
+    private final class MissTracker extends AbstractTransferListener {
+
+        @Override
+        public void transferSucceeded(TransferEvent event) {
+            forget(event.getResource());
+        }
+
+        @Override
+        public void transferFailed(TransferEvent event) {
+            if (ApacheMetricsRecorder.isNotFound(event.getException())) {
+                record(event.getResource());
+            }
+        }
+    }
+
+    static final class FilterSource implements RemoteRepositoryFilterSource {
+
+        private final RepositoryLayoutProvider repositoryLayoutProvider;
+
+        FilterSource(@NotNull RepositoryLayoutProvider repositoryLayoutProvider) {
+            Validation.notNull(repositoryLayoutProvider, "Repository layout provider must not be null.");
+            this.repositoryLayoutProvider = repositoryLayoutProvider;
+        }
+
+        @Override
+        public RemoteRepositoryFilter getRemoteRepositoryFilter(RepositorySystemSession session) {
+            Object negativeCache = session.getConfigProperties().get(CONFIG_PROP_NEGATIVE_CACHE);
+            return negativeCache instanceof ApacheNegativeCache
+                    ? new Filter((ApacheNegativeCache) negativeCache, session, repositoryLayoutProvider)
+                    : null;
+        }
+    }
+
+    private static final class Filter implements RemoteRepositoryFilter {
+
+        private static final Result ACCEPTED =
+                new ApacheRepositoryHealth.FilterResult(true, "Resource is not known to be missing.");
+        private static final Result REJECTED =
+                new ApacheRepositoryHealth.FilterResult(false, "Resource was recently missing from repository.");
+
+        private final ApacheNegativeCache negativeCache;
+        private final RepositorySystemSession session;
+        private final RepositoryLayoutProvider repositoryLayoutProvider;
+        private final ConcurrentMap<RemoteRepository, RepositoryLayout> layouts = new ConcurrentHashMap<>();
+
+        private Filter(
+                @NotNull ApacheNegativeCache negativeCache,
+                @NotNull RepositorySystemSession session,
+                @NotNull RepositoryLayoutProvider repositoryLayoutProvider) {
+            this.negativeCache = negativeCache;
+            this.session = session;
+            this.repositoryLayoutProvider = repositoryLayoutProvider;
+        }
+
+        @Override
+        public Result acceptArtifact(RemoteRepository repository, Artifact artifact) {
+            RepositoryLayout layout = layoutOf(repository);
+            if (layout == null) {
+                return ACCEPTED;
+            }
+            String resourceName = layout.getLocation(artifact, false).toString();
+            return negativeCache.isMissing(repository.getUrl(), resourceName) ? REJECTED : ACCEPTED;
+        }
+
+        @Override
+        public Result acceptMetadata(RemoteRepository repository, Metadata metadata) {
+            RepositoryLayout layout = layoutOf(repository);
+            if (layout == null) {
+                return ACCEPTED;
+            }
+            String resourceName = layout.getLocation(metadata, false).toString();
+            return negativeCache.isMissing(repository.getUrl(), resourceName) ? REJECTED : ACCEPTED;
+        }
+
+        @Nullable
+        private RepositoryLayout layoutOf(@NotNull RemoteRepository repository) {
+            RepositoryLayout layout = layouts.get(repository);
+            if (layout != null) {
+                return layout;
+            }
+            try {
+                layout = repositoryLayoutProvider.newRepositoryLayout(session, repository);
+            } catch (NoRepositoryLayoutException e) {
+                return null;
+            }
+            RepositoryLayout previous = layouts.putIfAbsent(repository, layout);
+            return previous == null ? layout : previous;
+        }
+    }
+}
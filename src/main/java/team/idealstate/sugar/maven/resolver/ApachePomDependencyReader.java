@@ -0,0 +1,176 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.codehaus.plexus.util.xml.pull.EntityReplacementMap;
+import org.codehaus.plexus.util.xml.pull.MXParser;
+import org.codehaus.plexus.util.xml.pull.XmlPullParser;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+import team.idealstate.sugar.maven.resolver.api.Dependency;
+import team.idealstate.sugar.maven.resolver.api.DependencyResolver;
+import team.idealstate.sugar.maven.resolver.api.DependencyScope;
+import team.idealstate.sugar.validate.annotation.NotNull;
+
+final class ApachePomDependencyReader {
+
+    private static final String DEFAULT_TYPE = "jar";
+
+    private ApachePomDependencyReader() {}
+
+    @NotNull
+    public static List<Dependency> read(@NotNull InputStream inputStream, @NotNull DependencyResolver resolver)
+            throws IOException, XmlPullParserException {
+        XmlPullParser parser = new MXParser(EntityReplacementMap.defaultEntityReplacementMap);
+        parser.setInput(inputStream, null);
+        int eventType = parser.nextTag();
+        if (eventType != XmlPullParser.START_TAG || !"project".equals(parser.getName())) {
+            throw new XmlPullParserException("Expected root element 'project' but found '" + parser.getName() + "'.");
+        }
+        List<Dependency> result = null;
+        while ((eventType = parser.next()) != XmlPullParser.END_DOCUMENT) {
+            if (eventType != XmlPullParser.START_TAG) {
+                continue;
+            }
+            if (parser.getDepth() == 2 && "dependencies".equals(parser.getName())) {
+                if (result == null) {
+                    result = new ArrayList<>();
+                }
+                readDependencies(parser, resolver, result);
+            } else {
+                skip(parser);
+            }
+        }
+        return result == null || result.isEmpty() ? Collections.emptyList() : result;
+    }
+
+    @NotNull
+    public static InputStream asInputStream(@NotNull ByteBuffer buffer) {
+        return new ByteBufferInputStream(buffer.duplicate());
+    }
+
+    private static void readDependencies(
+            @NotNull XmlPullParser parser, @NotNull DependencyResolver resolver, @NotNull List<Dependency> result)
+            throws IOException, XmlPullParserException {
+        while (parser.nextTag() == XmlPullParser.START_TAG) {
+            if (!"dependency".equals(parser.getName())) {
+                skip(parser);
+                continue;
+            }
+            String groupId = null;
+            String artifactId = null;
+            String version = null;
+            String type = null;
+            String classifier = null;
+            String scope = null;
+            while (parser.nextTag() == XmlPullParser.START_TAG) {
+                switch (parser.getName()) {
+                    case "groupId":
+                        groupId = parser.nextText().trim();
+                        break;
+                    case "artifactId":
+                        artifactId = parser.nextText().trim();
+                        break;
+                    case "version":
+                        version = parser.nextText().trim();
+                        break;
+                    case "type":
+                        type = parser.nextText().trim();
+                        break;
+                    case "classifier":
+                        classifier = parser.nextText().trim();
+                        break;
+                    case "scope":
+                        scope = parser.nextText().trim();
+                        break;
+                    default:
+                        skip(parser);
+                        break;
+                }
+            }
+            result.add(resolver.resolve(
+                    groupId,
+                    artifactId,
+                    type == null ? DEFAULT_TYPE : type,
+                    classifier,
+                    version,
+                    DependencyScope.of(scope)));
+        }
+    }
+
+    private static void skip(@NotNull XmlPullParser parser) throws IOException, XmlPullParserException {
+        int depth = 1;
+        while (depth != 0) {
+            switch (parser.next()) {
+                case XmlPullParser.START_TAG:
+                    depth++;
+                    break;
+                case XmlPullParser.END_TAG:
+                    depth--;
+                    break;
+                case XmlPullParser.END_DOCUMENT:
+                    throw new XmlPullParserException("Unexpected end of document.");
+                default:
+                    break;
+            }
+        }
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(@NotNull ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(@NotNull byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int read = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, read);
+            return read;
+        }
+
+        @Override
+        public long skip(long n) {
+            int skipped = (int) Math.max(0L, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import org.eclipse.aether.RepositoryCache;
+import org.eclipse.aether.RepositorySystemSession;
+import team.idealstate.sugar.logging.Log;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+import team.idealstate.sugar.validate.annotation.Nullable;
+
+final class ApacheRepositoryCache implements RepositoryCache {
+
+    private final Map<Object, Object> entries;
+    private final Map<Object, Closeable> resources;
+    private final ApacheRepositoryCache parent;
+    private final Predicate<Object> scoped;
+
+    public ApacheRepositoryCache(int maximumSize) {
+        this(null, null, maximumSize);
+    }
+
+    public ApacheRepositoryCache(
+            int maximumSize, @NotNull ApacheRepositoryCache parent, @NotNull Predicate<Object> scoped) {
+        this(
+                Validation.requireNotNull(parent, "Parent must not be null."),
+                Validation.requireNotNull(scoped, "Scoped must not be null."),
+                maximumSize);
+    }
+
+    private ApacheRepositoryCache(
+            @Nullable ApacheRepositoryCache parent, @Nullable Predicate<Object> scoped, int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be greater than 0.");
+        }
+        this.entries = new LinkedHashMap<Object, Object>(16, 0.75F, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Object> eldest) {
+                return size() > maximumSize;
+            }
+        };
+        this.resources = parent == null ? new HashMap<>() : null;
+        this.parent = parent;
+        this.scoped = scoped;
+    }
+
+    @Override
+    public void put(RepositorySystemSession session, Object key, Object data) {
+        if (parent != null) {
+            if (data instanceof Closeable || !scoped.test(key)) {
+                parent.put(session, key, data);
+                return;
+            }
+            synchronized (entries) {
+                if (data == null) {
+                    entries.remove(key);
+                } else {
+                    entries.put(key, data);
+                }
+            }
+            return;
+        }
+        Closeable previous;
+        synchronized (resources) {
+            previous = data instanceof Closeable ? resources.put(key, (Closeable) data) : resources.remove(key);
+        }
+        if (previous != null && previous != data) {
+            close(previous);
+        }
+        if (data instanceof Closeable) {
+            return;
+        }
+        synchronized (entries) {
+            if (data == null) {
+                entries.remove(key);
+            } else {
+                entries.put(key, data);
+            }
+        }
+    }
+
+    @Override
+    public Object get(RepositorySystemSession session, Object key) {
+        if (parent != null && !scoped.test(key)) {
+            return parent.get(session, key);
+        }
+        synchronized (entries) {
+            Object data = entries.get(key);
+            if (data != null || parent != null) {
+                return data;
+            }
+        }
+        synchronized (resources) {
+            return resources.get(key);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public void invalidate() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public void clear() {
+        invalidate();
+        if (parent != null) {
+            return;
+        }
+        List<Closeable> closing;
+        synchronized (resources) {
+            closing = new ArrayList<>(resources.values());
+            resources.clear();
+        }
+        for (Closeable resource : closing) {
+            close(resource);
+        }
+    }
+
+    private static void close(@NotNull Closeable resource) {
+        try {
+            resource.close();
+        } catch (IOException | RuntimeException e) {
+            Log.debug(() -> String.format("Failed to close cached resource '%s': %s", resource, e));
+        }
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver;
+
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.metadata.Metadata;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.spi.connector.filter.RemoteRepositoryFilter;
+import org.eclipse.aether.spi.connector.filter.RemoteRepositoryFilterSource;
+import org.eclipse.aether.transfer.AbstractTransferListener;
+import org.eclipse.aether.transfer.ChecksumFailureException;
+import org.eclipse.aether.transfer.TransferCancelledException;
+import org.eclipse.aether.transfer.TransferEvent;
+import org.eclipse.aether.transfer.TransferListener;
+import org.eclipse.aether.transfer.TransferResource;
+import team.idealstate.sugar.logging.Log;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+import team.idealstate.sugar.validate.annotation.Nullable;
+
+final class ApacheRepositoryHealth {
+
+    static final String CONFIG_PROP_REPOSITORY_HEALTH = ApacheRepositoryHealth.class.getName();
+
+    private static final double SMOOTHING = 0.2;
+    private static final double ERROR_PENALTY_MILLIS = 10_000.0;
+    private static final int COOLDOWN_THRESHOLD = 3;
+
+    private final long cooldownNanos;
+    private final ConcurrentMap<String, State> states = new ConcurrentHashMap<>();
+    private final TransferListener transferListener = new TransferTracker();
+
+    public ApacheRepositoryHealth(@NotNull Duration cooldown) {
+        Validation.notNull(cooldown, "Cooldown must not be null.");
+        if (cooldown.isNegative()) {
+            throw new IllegalArgumentException("Cooldown must not be negative.");
+        }
+        this.cooldownNanos = cooldown.toNanos();
+    }
+
+    @NotNull
+    public TransferListener getTransferListener() {
+        return transferListener;
+    }
+
+    public boolean isAvailable(@NotNull String repositoryId) {
+        State state = states.get(repositoryId);
+        return state == null || state.isAvailable(System.nanoTime());
+    }
+
+    @NotNull
+    public List<RemoteRepository> order(@NotNull List<RemoteRepository> repositories) {
+        int size = repositories.size();
+        if (size < 2 || states.isEmpty()) {
+            return repositories;
+        }
+        long now = System.nanoTime();
+        double[] scores = new double[size];
+        Integer[] indexes = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            State state = states.get(repositories.get(i).getId());
+            scores[i] = state == null ? 0.0 : state.score(now);
+            indexes[i] = i;
+        }
+        Arrays.sort(indexes, Comparator.comparingDouble(index -> scores[index]));
+        List<RemoteRepository> result = new ArrayList<>(size);
+        for (Integer index : indexes) {
+            result.add(repositories.get(index));
+        }
+        return result;
+    }
+
+    @NotNull
+    private State state(@NotNull TransferResource resource) {
+        String repositoryId = resource.getRepositoryId();
+        return states.computeIfAbsent(
+                repositoryId.isEmpty() ? resource.getRepositoryUrl() : repositoryId, it -> new State());
+    }
+
+    private final class State {
+
+        private double latency;
+        private double errorRate;
+        private long unavailableUntil;
+        private boolean unavailable;
+        private int unreachable;
+
+        private synchronized boolean isAvailable(long now) {
+            return !unavailable || now - unavailableUntil >= 0;
+        }
+
+        private synchronized double score(long now) {
+            if (!isAvailable(now)) {
+                return Double.POSITIVE_INFINITY;
+            }
+            return latency + errorRate * ERROR_PENALTY_MILLIS;
+        }
+
+        private synchronized void recordSuccess(long latency) {
+            this.latency = this.latency == 0.0 ? latency : this.latency + SMOOTHING * (latency - this.latency);
+            this.errorRate -= SMOOTHING * this.errorRate;
+            this.unavailable = false;
+            this.unreachable = 0;
+        }
+
+        private synchronized boolean recordFailure(long latency, boolean unreachable) {
+            this.latency = this.latency == 0.0 ? latency : this.latency + SMOOTHING * (latency - this.latency);
+            this.errorRate += SMOOTHING * (1.0 - this.errorRate);
+            if (!unreachable) {
+                this.unreachable = 0;
+                return false;
+            }
+            if (++this.unreachable < COOLDOWN_THRESHOLD || cooldownNanos == 0L) {
+                return false;
+            }
+            long now = System.nanoTime();
+            boolean opened = isAvailable(now);
+            this.unavailableUntil = now + cooldownNanos;
+            this.unavailable = true;
+            return opened;
+        }
+    }
+
+    private final class TransferTracker extends AbstractTransferListener {
+
+        @Override
+        public void transferSucceeded(TransferEvent event) {
+            state(event.getResource()).recordSuccess(latencyOf(event.getResource()));
+        }
+
+        @Override
+        public void transferFailed(TransferEvent event) {
+            Exception exception = event.getException();
+            if (exception instanceof TransferCancelledException || exception instanceof ChecksumFailureException) {
+                return;
+            }
+            TransferResource resource = event.getResource();
+            if (ApacheMetricsRecorder.isNotFound(exception)) {
+                state(resource).recordSuccess(latencyOf(resource));
+                return;
+            }
+            if (state(resource).recordFailure(latencyOf(resource), isUnreachable(exception))) {
+                Log.warn(() -> String.format(
+                        "Repository '%s' failed, skipping it for %s: %s",
+                        resource.getRepositoryUrl(),
+                        Duration.ofNanos(cooldownNanos),
+                        exception == null ? null : exception.getMessage()));
+            }
+        }
+
+        private boolean isUnreachable(@Nullable Throwable exception) {
+            for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+                if (cause instanceof ConnectException
+                        || cause instanceof NoRouteToHostException
+                        || cause instanceof UnknownHostException
+                        || cause instanceof ConnectTimeoutException) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private long latencyOf(@NotNull TransferResource resource) {
+            return Math.max(0L, System.currentTimeMillis() - resource.getTransferStartTime());
+        }
+    }
+
+    static final class FilterSource implements RemoteRepositoryFilterSource {
+
+        @Override
+        public RemoteRepositoryFilter getRemoteRepositoryFilter(RepositorySystemSession session) {
+            Object health = session.getConfigProperties().get(CONFIG_PROP_REPOSITORY_HEALTH);
+            return health instanceof ApacheRepositoryHealth ? new Filter((ApacheRepositoryHealth) health) : null;
+        }
+    }
+
+    private static final class Filter implements RemoteRepositoryFilter {
+
+        private static final Result ACCEPTED = new FilterResult(true, "Repository is available.");
+        private static final Result REJECTED = new FilterResult(false, "Repository is cooling down after a failure.");
+
+        private final ApacheRepositoryHealth health;
+
+        private Filter(@NotNull ApacheRepositoryHealth health) {
+            this.health = health;
+        }
+
+        @Override
+        public Result acceptArtifact(RemoteRepository repository, Artifact artifact) {
+            return health.isAvailable(repository.getId()) ? ACCEPTED : REJECTED;
+        }
+
+        @Override
+        public Result acceptMetadata(RemoteRepository repository, Metadata metadata) {
+            return health.isAvailable(repository.getId()) ? ACCEPTED : REJECTED;
+        }
+    }
+
+    static final class FilterResult implements RemoteRepositoryFilter.Result {
+
+        private final boolean accepted;
+        private final String reasoning;
+
+        FilterResult(boolean accepted, @NotNull String reasoning) {
+            this.accepted = accepted;
+            this.reasoning = reasoning;
+        }
+
+        @Override
+        public boolean isAccepted() {
+            return accepted;
+        }
+
+        @Override
+        public String reasoning() {
+            return reasoning;
+        }
+    }
+}
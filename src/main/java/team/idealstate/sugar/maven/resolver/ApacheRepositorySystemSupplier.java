@@ -0,0 +1,63 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.eclipse.aether.impl.RepositorySystemLifecycle;
+import org.eclipse.aether.spi.connector.filter.RemoteRepositoryFilterSource;
+import org.eclipse.aether.spi.connector.layout.RepositoryLayoutProvider;
+import org.eclipse.aether.spi.connector.transport.TransporterFactory;
+import org.eclipse.aether.supplier.RepositorySystemSupplier;
+import org.eclipse.aether.transport.http.ChecksumExtractor;
+
+final class ApacheRepositorySystemSupplier extends RepositorySystemSupplier {
+
+    private static final String REPOSITORY_HEALTH_FILTER = "sugarRepositoryHealth";
+    private static final String NEGATIVE_CACHE_FILTER = "sugarNegativeCache";
+
+    @Override
+    protected Map<String, RemoteRepositoryFilterSource> getRemoteRepositoryFilterSources(
+            RepositorySystemLifecycle repositorySystemLifecycle, RepositoryLayoutProvider repositoryLayoutProvider) {
+        Map<String, RemoteRepositoryFilterSource> result = new HashMap<>(
+                super.getRemoteRepositoryFilterSources(repositorySystemLifecycle, repositoryLayoutProvider));
+        result.put(REPOSITORY_HEALTH_FILTER, new ApacheRepositoryHealth.FilterSource());
+        result.put(NEGATIVE_CACHE_FILTER, new ApacheNegativeCache.FilterSource(repositoryLayoutProvider));
+        return result;
+    }
+
+    @Override
+    protected Map<String, ChecksumExtractor> getChecksumExtractors() {
+        Map<String, ChecksumExtractor> result = new LinkedHashMap<>();
+        result.put(ApacheMetadataValidators.ValidatorExtractor.NAME, new ApacheMetadataValidators.ValidatorExtractor());
+        result.putAll(super.getChecksumExtractors());
+        return result;
+    }
+
+    @Override
+    protected Map<String, TransporterFactory> getTransporterFactories(Map<String, ChecksumExtractor> extractors) {
+        Map<String, TransporterFactory> result = new HashMap<>();
+        for (Map.Entry<String, TransporterFactory> entry : super.getTransporterFactories(extractors).entrySet()) {
+            result.put(
+                    entry.getKey(),
+                    new ApacheTransferLimiter.LimitingTransporterFactory(
+                            new ApacheMetadataValidators.RevalidatingTransporterFactory(entry.getValue())));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver;
+
+import java.io.File;
+import java.util.AbstractList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import team.idealstate.sugar.maven.resolver.api.ResolvedArtifact;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+
+public final class ApacheResolution {
+
+    private static final Pattern SNAPSHOT_TIMESTAMP = Pattern.compile("^(.*-)?([0-9]{8}\\.[0-9]{6}-[0-9]+)$");
+
+    private final ApacheDependencyGraph graph;
+    private final int[] artifacts;
+
+    private ApacheResolution(@NotNull ApacheDependencyGraph graph, @NotNull int[] artifacts) {
+        this.graph = graph;
+        this.artifacts = artifacts;
+    }
+
+    @NotNull
+    static ApacheResolution of(
+            @NotNull ApacheDependencyGraph graph, @NotNull List<ResolvedArtifact> resolvedArtifacts) {
+        Validation.notNull(graph, "Graph must not be null.");
+        Validation.notNull(resolvedArtifacts, "Resolved artifacts must not be null.");
+        Map<String, Integer> nodes = new HashMap<>();
+        for (int node = graph.size() - 1; node >= 0; node--) {
+            nodes.put(graph.toString(node), node);
+        }
+        int[] artifacts = new int[resolvedArtifacts.size()];
+        for (int i = 0; i < artifacts.length; i++) {
+            ResolvedArtifact resolvedArtifact = resolvedArtifacts.get(i);
+            String key = keyOf(resolvedArtifact);
+            Integer node = nodes.get(key);
+            if (node == null) {
+                throw new IllegalStateException("Resolved artifact " + key + " is missing from the graph.");
+            }
+            artifacts[i] = node;
+        }
+        return new ApacheResolution(graph, artifacts);
+    }
+
+    @NotNull
+    public List<ResolvedArtifact> getArtifacts() {
+        return new AbstractList<ResolvedArtifact>() {
+            @Override
+            public ResolvedArtifact get(int index) {
+                return new GraphArtifact(graph, artifacts[index]);
+            }
+
+            @Override
+            public int size() {
+                return artifacts.length;
+            }
+        };
+    }
+
+    @NotNull
+    public ApacheDependencyGraph getGraph() {
+        return graph;
+    }
+
+    @Override
+    public String toString() {
+        return "ApacheResolution{" + "artifacts=" + artifacts.length + ", graph=" + graph + '}';
+    }
+
+    @NotNull
+    private static String keyOf(@NotNull ResolvedArtifact resolvedArtifact) {
+        StringBuilder builder = new StringBuilder()
+                .append(resolvedArtifact.getGroupId())
+                .append(':')
+                .append(resolvedArtifact.getArtifactId())
+                .append(':')
+                .append(resolvedArtifact.getExtension());
+        String classifier = resolvedArtifact.getClassifier();
+        if (!classifier.isEmpty()) {
+            builder.append(':').append(classifier);
+        }
+        return builder.append(':').append(resolvedArtifact.getActualVersion()).toString();
+    }
+
+    private static final class GraphArtifact implements ResolvedArtifact {
+
+        private final ApacheDependencyGraph graph;
+        private final int node;
+
+        private GraphArtifact(@NotNull ApacheDependencyGraph graph, int node) {
+            this.graph = graph;
+            this.node = node;
+        }
+
+        @NotNull
+        @Override
+        public String getActualVersion() {
+            return graph.getVersion(node);
+        }
+
+        @NotNull
+        @Override
+        public String getGroupId() {
+            return graph.getGroupId(node);
+        }
+
+        @NotNull
+        @Override
+        public String getArtifactId() {
+            return graph.getArtifactId(node);
+        }
+
+        @NotNull
+        @Override
+        public String getExtension() {
+            return graph.getExtension(node);
+        }
+
+        @NotNull
+        @Override
+        public String getClassifier() {
+            return graph.getClassifier(node);
+        }
+
+        @NotNull
+        @Override
+        public String getVersion() {
+            String version = graph.getVersion(node);
+            Matcher matcher = SNAPSHOT_TIMESTAMP.matcher(version);
+            if (!matcher.matches()) {
+                return version;
+            }
+            String prefix = matcher.group(1);
+            return prefix == null ? "SNAPSHOT" : prefix + "SNAPSHOT";
+        }
+
+        @NotNull
+        @Override
+        public File getFile() {
+            return Validation.requireNotNull(graph.getFile(node), "File must not be null.");
+        }
+
+        @Override
+        public String toString() {
+            return graph.toString(node);
+        }
+    }
+}
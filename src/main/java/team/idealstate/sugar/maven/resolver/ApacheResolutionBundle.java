@@ -0,0 +1,418 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.repository.LocalRepositoryManager;
+import team.idealstate.sugar.logging.Log;
+import team.idealstate.sugar.maven.resolver.api.ResolvedArtifact;
+import team.idealstate.sugar.maven.resolver.api.exception.MavenResolutionException;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+import team.idealstate.sugar.validate.annotation.Nullable;
+
+final class ApacheResolutionBundle implements Closeable {
+
+    private static final String HEADER = "# sugar-maven-resolver bundle v1";
+    private static final String MANIFEST = "META-INF/sugar/bundle";
+    private static final String SEPARATOR = "\t";
+    private static final String RESOLUTION = "resolution";
+    private static final String ARTIFACT = "artifact";
+    private static final int FIELDS = 10;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path bundle;
+    private final FileSystem fileSystem;
+    private final Map<String, List<Record>> resolutions;
+    private final Map<String, Path> extracted = new HashMap<>();
+    private Path directory;
+
+    public ApacheResolutionBundle(@NotNull Path bundle) throws IOException {
+        Validation.notNull(bundle, "Bundle must not be null.");
+        this.bundle = bundle;
+        this.fileSystem = FileSystems.newFileSystem(bundle, (ClassLoader) null);
+        try {
+            this.resolutions = read(fileSystem.getPath(MANIFEST));
+        } catch (IOException | RuntimeException e) {
+            fileSystem.close();
+            throw e;
+        }
+    }
+
+    @Nullable
+    public List<ResolvedArtifact> load(@NotNull String key) {
+        List<Record> records = resolutions.get(key);
+        if (records == null) {
+            return null;
+        }
+        List<ResolvedArtifact> result = new ArrayList<>(records.size());
+        try {
+            for (Record record : records) {
+                if (Files.size(fileSystem.getPath(record.path)) != record.size) {
+                    Log.warn(String.format("Bundle '%s' is corrupted, '%s' does not match.", bundle, record.path));
+                    return null;
+                }
+                result.add(new BundledArtifact(record));
+            }
+        } catch (IOException | RuntimeException e) {
+            Log.debug(() -> String.format("Failed to load '%s' from bundle '%s': %s", key, bundle, e));
+            return null;
+        }
+        return result.isEmpty() ? Collections.emptyList() : result;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        extracted.clear();
+        try {
+            fileSystem.close();
+        } finally {
+            Path directory = this.directory;
+            this.directory = null;
+            if (directory != null) {
+                try (Stream<Path> files = Files.walk(directory)) {
+                    for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                        Files.deleteIfExists(file);
+                    }
+                }
+            }
+        }
+    }
+
+    public static void write(
+            @NotNull Path bundle,
+            @NotNull Map<String, List<ResolvedArtifact>> resolutions,
+            @NotNull File localRepository,
+            @NotNull LocalRepositoryManager localRepositoryManager,
+            @NotNull ApacheIntegrityIndex integrityIndex)
+            throws IOException {
+        Validation.notNull(bundle, "Bundle must not be null.");
+        Validation.notNull(resolutions, "Resolutions must not be null.");
+        Validation.notNull(localRepository, "Local repository must not be null.");
+        Validation.notNull(localRepositoryManager, "Local repository manager must not be null.");
+        Validation.notNull(integrityIndex, "Integrity index must not be null.");
+        Path basedir = localRepository.toPath().toAbsolutePath().normalize();
+        Map<String, Path> files = new LinkedHashMap<>();
+        StringBuilder manifest = new StringBuilder(HEADER).append('\n');
+        for (Map.Entry<String, List<ResolvedArtifact>> resolution : resolutions.entrySet()) {
+            manifest.append(RESOLUTION).append(SEPARATOR).append(resolution.getKey()).append('\n');
+            for (ResolvedArtifact artifact : resolution.getValue()) {
+                Path file = artifact.getFile().toPath().toAbsolutePath().normalize();
+                String path = pathOf(
+                        basedir,
+                        file,
+                        localRepositoryManager.getPathForLocalArtifact(new DefaultArtifact(
+                                artifact.getGroupId(),
+                                artifact.getArtifactId(),
+                                artifact.getClassifier(),
+                                artifact.getExtension(),
+                                artifact.getActualVersion())));
+                files.put(path, file);
+                String pomPath = localRepositoryManager
+                        .getPathForLocalArtifact(new DefaultArtifact(
+                                artifact.getGroupId(),
+                                artifact.getArtifactId(),
+                                "",
+                                "pom",
+                                artifact.getActualVersion()))
+                        .replace(File.separatorChar, '/');
+                Path pom = basedir.resolve(pomPath);
+                if (Files.isRegularFile(pom)) {
+                    files.putIfAbsent(pomPath, pom);
+                } else {
+                    pomPath = "";
+                }
+                manifest.append(String.join(
+                                SEPARATOR,
+                                ARTIFACT,
+                                artifact.getGroupId(),
+                                artifact.getArtifactId(),
+                                artifact.getExtension(),
+                                artifact.getClassifier(),
+                                artifact.getActualVersion(),
+                                String.valueOf(Files.size(file)),
+                                integrityIndex.sha256Of(file),
+                                path,
+                                pomPath))
+                        .append('\n');
+            }
+        }
+        Path directory = bundle.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, bundle.getFileName().toString(), ".tmp");
+        try {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            try (ZipOutputStream outputStream = new ZipOutputStream(Files.newOutputStream(temporary))) {
+                outputStream.setMethod(ZipOutputStream.STORED);
+                putEntry(outputStream, MANIFEST, manifest.toString().getBytes(StandardCharsets.UTF_8));
+                for (Map.Entry<String, Path> file : files.entrySet()) {
+                    putEntry(outputStream, file.getKey(), file.getValue(), buffer);
+                }
+            }
+            try {
+                Files.move(temporary, bundle, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, bundle, StandardCopyOption.REPLACE_EXISTING);
+            }
+            temporary = null;
+        } finally {
+            if (temporary != null) {
+                Files.deleteIfExists(temporary);
+            }
+        }
+    }
+
+    @NotNull
+    private synchronized Path extract(@NotNull Record record) throws IOException {
+        Path file = extracted.get(record.path);
+        if (file != null) {
+            return file;
+        }
+        if (directory == null) {
+            directory = Files.createTempDirectory("sugar-maven-resolver-bundle-");
+        }
+        file = directory.resolve(record.path).normalize();
+        if (!file.startsWith(directory)) {
+            throw new IOException(String.format("Illegal bundle entry '%s'.", record.path));
+        }
+        Files.createDirectories(file.getParent());
+        MessageDigest sha256 = ApacheIntegrityIndex.digest("SHA-256");
+        long size = 0L;
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream inputStream = Files.newInputStream(fileSystem.getPath(record.path));
+                OutputStream outputStream = Files.newOutputStream(file)) {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                sha256.update(buffer, 0, read);
+                outputStream.write(buffer, 0, read);
+                size += read;
+            }
+        }
+        if (size != record.size || !record.sha256.equals(ApacheIntegrityIndex.toHex(sha256.digest()))) {
+            Files.deleteIfExists(file);
+            throw new IOException(String.format("Bundle '%s' is corrupted, '%s' does not match.", bundle, record.path));
+        }
+        extracted.put(record.path, file);
+        return file;
+    }
+
+    @NotNull
+    private static Map<String, List<Record>> read(@NotNull Path manifest) throws IOException {
+        Map<String, List<Record>> resolutions = new HashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(manifest, StandardCharsets.UTF_8)) {
+            if (!HEADER.equals(reader.readLine())) {
+                throw new IOException(String.format("Unsupported bundle manifest '%s'.", manifest));
+            }
+            List<Record> records = null;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                String[] fields = line.split(SEPARATOR, -1);
+                if (fields.length == 2 && RESOLUTION.equals(fields[0])) {
+                    records = new ArrayList<>();
+                    resolutions.put(fields[1], records);
+                } else if (fields.length == FIELDS && ARTIFACT.equals(fields[0]) && records != null) {
+                    records.add(new Record(
+                            fields[1],
+                            fields[2],
+                            fields[3],
+                            fields[4],
+                            fields[5],
+                            Long.parseLong(fields[6]),
+                            fields[7],
+                            fields[8],
+                            fields[9]));
+                } else {
+                    throw new IOException(String.format("Malformed bundle manifest line '%s'.", line));
+                }
+            }
+        }
+        return resolutions;
+    }
+
+    @NotNull
+    private static String pathOf(@NotNull Path basedir, @NotNull Path file, @NotNull String defaultPath) {
+        String path = file.startsWith(basedir) ? basedir.relativize(file).toString() : defaultPath;
+        return path.replace(File.separatorChar, '/');
+    }
+
+    private static void putEntry(@NotNull ZipOutputStream outputStream, @NotNull String name, @NotNull byte[] bytes)
+            throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length);
+        outputStream.putNextEntry(newEntry(name, bytes.length, crc.getValue()));
+        outputStream.write(bytes);
+        outputStream.closeEntry();
+    }
+
+    private static void putEntry(
+            @NotNull ZipOutputStream outputStream, @NotNull String name, @NotNull Path file, @NotNull byte[] buffer)
+            throws IOException {
+        CRC32 crc = new CRC32();
+        long size = 0L;
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                crc.update(buffer, 0, read);
+                size += read;
+            }
+        }
+        outputStream.putNextEntry(newEntry(name, size, crc.getValue()));
+        copy(file, outputStream, buffer);
+        outputStream.closeEntry();
+    }
+
+    @NotNull
+    private static ZipEntry newEntry(@NotNull String name, long size, long crc) {
+        ZipEntry entry = new ZipEntry(name);
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(size);
+        entry.setCompressedSize(size);
+        entry.setCrc(crc);
+        return entry;
+    }
+
+    private static void copy(@NotNull Path file, @NotNull OutputStream outputStream, @NotNull byte[] buffer)
+            throws IOException {
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, read);
+            }
+        }
+    }
+
+    private final class BundledArtifact implements ResolvedArtifact {
+
+        private final Record record;
+        private final Artifact artifact;
+
+        private BundledArtifact(@NotNull Record record) {
+            this.record = record;
+            this.artifact = new DefaultArtifact(
+                    record.groupId, record.artifactId, record.classifier, record.extension, record.version);
+        }
+
+        @NotNull
+        @Override
+        public String getActualVersion() {
+            return artifact.getVersion();
+        }
+
+        @NotNull
+        @Override
+        public String getGroupId() {
+            return artifact.getGroupId();
+        }
+
+        @NotNull
+        @Override
+        public String getArtifactId() {
+            return artifact.getArtifactId();
+        }
+
+        @NotNull
+        @Override
+        public String getExtension() {
+            return artifact.getExtension();
+        }
+
+        @NotNull
+        @Override
+        public String getClassifier() {
+            return artifact.getClassifier();
+        }
+
+        @NotNull
+        @Override
+        public String getVersion() {
+            return artifact.getBaseVersion();
+        }
+
+        @NotNull
+        @Override
+        public File getFile() {
+            try {
+                return extract(record).toFile();
+            } catch (IOException e) {
+                throw new MavenResolutionException(e);
+            }
+        }
+    }
+
+    private static final class Record {
+
+        private final String groupId;
+        private final String artifactId;
+        private final String extension;
+        private final String classifier;
+        private final String version;
+        private final long size;
+        private final String sha256;
+        private final String path;
+        private final String pomPath;
+
+        private Record(
+                @NotNull String groupId,
+                @NotNull String artifactId,
+                @NotNull String extension,
+                @NotNull String classifier,
+                @NotNull String version,
+                long size,
+                @NotNull String sha256,
+                @NotNull String path,
+                @NotNull String pomPath) {
+            this.groupId = groupId;
+            this.artifactId = artifactId;
+            this.extension = extension;
+            this.classifier = classifier;
+            this.version = version;
+            this.size = size;
+            this.sha256 = sha256;
+            this.path = path;
+            this.pomPath = pomPath;
+        }
+    }
+}
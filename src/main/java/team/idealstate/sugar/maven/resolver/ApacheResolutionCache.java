@@ -0,0 +1,199 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.repository.RemoteRepository;
+import team.idealstate.sugar.logging.Log;
+import team.idealstate.sugar.maven.resolver.api.DependencyScope;
+import team.idealstate.sugar.maven.resolver.api.ResolvedArtifact;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+import team.idealstate.sugar.validate.annotation.Nullable;
+
+final class ApacheResolutionCache {
+
+    private static final String HEADER = "# sugar-maven-resolver resolution v1";
+    private static final String SEPARATOR = "\t";
+    private static final int FIELDS = 8;
+
+    private final Path directory;
+    private final ApacheIntegrityIndex integrityIndex;
+
+    public ApacheResolutionCache(@NotNull File localRepository, @NotNull ApacheIntegrityIndex integrityIndex) {
+        Validation.notNull(localRepository, "Local repository must not be null.");
+        Validation.notNull(integrityIndex, "Integrity index must not be null.");
+        this.directory = localRepository.toPath().resolve(".sugar").resolve("resolution");
+        this.integrityIndex = integrityIndex;
+    }
+
+    @NotNull
+    public static String keyOf(
+            @NotNull List<Dependency> dependencies,
+            @NotNull Set<DependencyScope> dependencyScopes,
+            @NotNull List<RemoteRepository> remoteRepositories) {
+        StringBuilder builder = new StringBuilder(64 * (dependencies.size() + remoteRepositories.size()));
+        for (Dependency dependency : dependencies) {
+            Artifact artifact = dependency.getArtifact();
+            builder.append("dependency ")
+                    .append(artifact.getGroupId())
+                    .append(':')
+                    .append(artifact.getArtifactId())
+                    .append(':')
+                    .append(artifact.getExtension())
+                    .append(':')
+                    .append(artifact.getClassifier())
+                    .append(':')
+                    .append(artifact.getVersion())
+                    .append(':')
+                    .append(dependency.getScope())
+                    .append('\n');
+        }
+        Set<String> scopes = new TreeSet<>();
+        for (DependencyScope dependencyScope : dependencyScopes) {
+            scopes.add(dependencyScope.getActualName());
+        }
+        builder.append("scopes ").append(scopes).append('\n');
+        for (RemoteRepository repository : remoteRepositories) {
+            builder.append("repository ")
+                    .append(repository.getId())
+                    .append(' ')
+                    .append(repository.getUrl())
+                    .append(' ')
+                    .append(repository.getPolicy(false).getUpdatePolicy())
+                    .append(' ')
+                    .append(repository.getPolicy(true).getUpdatePolicy())
+                    .append(' ')
+                    .append(repository.getPolicy(false).getChecksumPolicy())
+                    .append('\n');
+        }
+        return ApacheIntegrityIndex.toHex(ApacheIntegrityIndex.digest("SHA-256")
+                .digest(builder.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public static boolean isCacheable(@NotNull List<Dependency> dependencies) {
+        for (Dependency dependency : dependencies) {
+            String version = dependency.getArtifact().getVersion();
+            if (version.isEmpty()
+                    || version.indexOf('[') >= 0
+                    || version.indexOf('(') >= 0
+                    || "LATEST".equals(version)
+                    || "RELEASE".equals(version)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Nullable
+    public List<ResolvedArtifact> load(@NotNull String key) {
+        Path path = directory.resolve(key);
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+        List<ResolvedArtifact> result = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            if (!HEADER.equals(reader.readLine())) {
+                return null;
+            }
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                String[] fields = line.split(SEPARATOR, -1);
+                if (fields.length != FIELDS) {
+                    return null;
+                }
+                File file = new File(fields[7]);
+                if (!isIntact(file.toPath(), Long.parseLong(fields[5]), fields[6])) {
+                    Log.debug(() -> String.format("Resolution cache '%s' is stale, '%s' has changed.", key, file));
+                    return null;
+                }
+                result.add(new ApacheResolvedArtifact(
+                        new DefaultArtifact(fields[0], fields[1], fields[3], fields[2], fields[4]).setFile(file)));
+            }
+        } catch (IOException | RuntimeException e) {
+            Log.debug(() -> String.format("Failed to read resolution cache '%s': %s", key, e));
+            return null;
+        }
+        return result.isEmpty() ? Collections.emptyList() : result;
+    }
+
+    public void store(@NotNull String key, @NotNull List<ResolvedArtifact> artifacts) {
+        Path temporary = null;
+        try {
+            Files.createDirectories(directory);
+            temporary = Files.createTempFile(directory, key, ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                writer.write(HEADER);
+                writer.newLine();
+                for (ResolvedArtifact artifact : artifacts) {
+                    File file = artifact.getFile();
+                    writer.write(String.join(
+                            SEPARATOR,
+                            artifact.getGroupId(),
+                            artifact.getArtifactId(),
+                            artifact.getExtension(),
+                            artifact.getClassifier(),
+                            artifact.getActualVersion(),
+                            String.valueOf(file.length()),
+                            integrityIndex.sha1Of(file.toPath()),
+                            file.getAbsolutePath()));
+                    writer.newLine();
+                }
+            }
+            Path target = directory.resolve(key);
+            try {
+                Files.move(
+                        temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            temporary = null;
+        } catch (IOException | RuntimeException e) {
+            Log.debug(() -> String.format("Failed to write resolution cache '%s': %s", key, e));
+        } finally {
+            if (temporary != null) {
+                try {
+                    Files.deleteIfExists(temporary);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    private boolean isIntact(@NotNull Path path, long size, @NotNull String checksum) throws IOException {
+        return Files.isRegularFile(path) && Files.size(path) == size && checksum.equals(integrityIndex.sha1Of(path));
+    }
+}
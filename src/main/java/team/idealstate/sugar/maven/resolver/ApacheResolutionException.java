@@ -0,0 +1,63 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver;
+
+import java.util.Collections;
+import java.util.List;
+import team.idealstate.sugar.maven.resolver.api.ResolvedArtifact;
+import team.idealstate.sugar.maven.resolver.api.exception.MavenResolutionException;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+
+public final class ApacheResolutionException extends MavenResolutionException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient List<ResolvedArtifact> resolvedArtifacts;
+    private final List<Exception> failures;
+
+    public ApacheResolutionException(
+            @NotNull List<ResolvedArtifact> resolvedArtifacts, @NotNull List<Exception> failures) {
+        super(messageOf(failures));
+        Validation.notNull(resolvedArtifacts, "Resolved artifacts must not be null.");
+        this.resolvedArtifacts = Collections.unmodifiableList(resolvedArtifacts);
+        this.failures = Collections.unmodifiableList(failures);
+        for (Exception failure : failures) {
+            addSuppressed(failure);
+        }
+    }
+
+    @NotNull
+    private static String messageOf(@NotNull List<Exception> failures) {
+        Validation.notNull(failures, "Failures must not be null.");
+        StringBuilder builder = new StringBuilder(String.format("Failed to resolve %d artifact(s):", failures.size()));
+        for (Exception failure : failures) {
+            builder.append(System.lineSeparator()).append(" - ").append(failure.getMessage());
+        }
+        return builder.toString();
+    }
+
+    @NotNull
+    public List<ResolvedArtifact> getResolvedArtifacts() {
+        return resolvedArtifacts;
+    }
+
+    @NotNull
+    public List<Exception> getFailures() {
+        return failures;
+    }
+}
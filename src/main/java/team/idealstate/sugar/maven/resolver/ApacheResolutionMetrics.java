@@ -0,0 +1,174 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+
+public final class ApacheResolutionMetrics {
+
+    private final long resolutions;
+    private final long cachedResolutions;
+    private final Duration collectDuration;
+    private final Duration resolveDuration;
+    private final long localHits;
+    private final long remoteFetches;
+    private final long checksumFailures;
+    private final Map<String, Repository> repositories;
+
+    ApacheResolutionMetrics(
+            long resolutions,
+            long cachedResolutions,
+            @NotNull Duration collectDuration,
+            @NotNull Duration resolveDuration,
+            long localHits,
+            long remoteFetches,
+            long checksumFailures,
+            @NotNull Map<String, Repository> repositories) {
+        Validation.notNull(collectDuration, "Collect duration must not be null.");
+        Validation.notNull(resolveDuration, "Resolve duration must not be null.");
+        Validation.notNull(repositories, "Repositories must not be null.");
+        this.resolutions = resolutions;
+        this.cachedResolutions = cachedResolutions;
+        this.collectDuration = collectDuration;
+        this.resolveDuration = resolveDuration;
+        this.localHits = localHits;
+        this.remoteFetches = remoteFetches;
+        this.checksumFailures = checksumFailures;
+        this.repositories = Collections.unmodifiableMap(repositories);
+    }
+
+    public long getResolutions() {
+        return resolutions;
+    }
+
+    public long getCachedResolutions() {
+        return cachedResolutions;
+    }
+
+    @NotNull
+    public Duration getCollectDuration() {
+        return collectDuration;
+    }
+
+    @NotNull
+    public Duration getResolveDuration() {
+        return resolveDuration;
+    }
+
+    public long getLocalHits() {
+        return localHits;
+    }
+
+    public long getRemoteFetches() {
+        return remoteFetches;
+    }
+
+    public long getChecksumFailures() {
+        return checksumFailures;
+    }
+
+    @NotNull
+    public Map<String, Repository> getRepositories() {
+        return repositories;
+    }
+
+    @Override
+    public String toString() {
+        return "ApacheResolutionMetrics{" + "resolutions="
+                + resolutions + ", cachedResolutions="
+                + cachedResolutions + ", collectDuration="
+                + collectDuration + ", resolveDuration="
+                + resolveDuration + ", localHits="
+                + localHits + ", remoteFetches="
+                + remoteFetches + ", checksumFailures="
+                + checksumFailures + ", repositories="
+                + repositories + '}';
+    }
+
+    public static final class Repository {
+
+        private final long requests;
+        private final long notFound;
+        private final long failures;
+        private final long transferredBytes;
+        private final Duration totalLatency;
+        private final Duration maximumLatency;
+
+        Repository(
+                long requests,
+                long notFound,
+                long failures,
+                long transferredBytes,
+                @NotNull Duration totalLatency,
+                @NotNull Duration maximumLatency) {
+            Validation.notNull(totalLatency, "Total latency must not be null.");
+            Validation.notNull(maximumLatency, "Maximum latency must not be null.");
+            this.requests = requests;
+            this.notFound = notFound;
+            this.failures = failures;
+            this.transferredBytes = transferredBytes;
+            this.totalLatency = totalLatency;
+            this.maximumLatency = maximumLatency;
+        }
+
+        public long getRequests() {
+            return requests;
+        }
+
+        public long getNotFound() {
+            return notFound;
+        }
+
+        public long getFailures() {
+            return failures;
+        }
+
+        public long getTransferredBytes() {
+            return transferredBytes;
+        }
+
+        @NotNull
+        public Duration getTotalLatency() {
+            return totalLatency;
+        }
+
+        @NotNull
+        public Duration getMaximumLatency() {
+            return maximumLatency;
+        }
+
+        @NotNull
+        public Duration getAverageLatency() {
+            return requests == 0 ? Duration.ZERO : totalLatency.dividedBy(requests);
+        }
+
+        @Override
+        public String toString() {
+            return "Repository{" + "requests="
+                    + requests + ", notFound="
+                    + notFound + ", failures="
+                    + failures + ", transferredBytes="
+                    + transferredBytes + ", totalLatency="
+                    + totalLatency + ", maximumLatency="
+                    + maximumLatency + '}';
+        }
+    }
+}
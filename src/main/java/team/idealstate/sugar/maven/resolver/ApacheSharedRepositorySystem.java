@@ -0,0 +1,100 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.repository.RemoteRepository;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+
+final class ApacheSharedRepositorySystem {
+
+    private static final int MODEL_CACHE_SIZE = 1024;
+
+    private RepositorySystem system;
+    private final Map<List<String>, ApacheModelCache> modelCaches = new HashMap<>();
+    private int references;
+
+    @NotNull
+    public static Lease exclusive() {
+        return new ApacheSharedRepositorySystem().acquire();
+    }
+
+    @NotNull
+    public synchronized Lease acquire() {
+        if (references == 0) {
+            system = new ApacheRepositorySystemSupplier().get();
+        }
+        references++;
+        return new Lease(this, system);
+    }
+
+    @NotNull
+    private synchronized ApacheModelCache modelCacheOf(@NotNull List<RemoteRepository> repositories) {
+        List<String> key = new ArrayList<>(repositories.size());
+        for (RemoteRepository repository : repositories) {
+            key.add(repository.getId() + ' ' + repository.getUrl());
+        }
+        return modelCaches.computeIfAbsent(key, it -> new ApacheModelCache(MODEL_CACHE_SIZE));
+    }
+
+    private synchronized void release() {
+        if (--references > 0) {
+            return;
+        }
+        RepositorySystem system = this.system;
+        this.system = null;
+        modelCaches.clear();
+        system.shutdown();
+    }
+
+    static final class Lease implements Closeable {
+
+        private final ApacheSharedRepositorySystem owner;
+        private final RepositorySystem system;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Lease(@NotNull ApacheSharedRepositorySystem owner, @NotNull RepositorySystem system) {
+            this.owner = owner;
+            this.system = system;
+        }
+
+        @NotNull
+        public RepositorySystem getSystem() {
+            return system;
+        }
+
+        @NotNull
+        public ApacheModelCache getModelCache(@NotNull List<RemoteRepository> repositories) {
+            Validation.notNull(repositories, "Repositories must not be null.");
+            return owner.modelCacheOf(repositories);
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                owner.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver;
+
+import java.util.concurrent.Semaphore;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.spi.connector.transport.GetTask;
+import org.eclipse.aether.spi.connector.transport.PeekTask;
+import org.eclipse.aether.spi.connector.transport.PutTask;
+import org.eclipse.aether.spi.connector.transport.Transporter;
+import org.eclipse.aether.spi.connector.transport.TransporterFactory;
+import org.eclipse.aether.transfer.NoTransporterException;
+import team.idealstate.sugar.validate.Validation;
+import team.idealstate.sugar.validate.annotation.NotNull;
+
+final class ApacheTransferLimiter {
+
+    static final String CONFIG_PROP_TRANSFER_LIMITER = ApacheTransferLimiter.class.getName();
+
+    private final Semaphore permits;
+
+    public ApacheTransferLimiter(int maximumTransfers) {
+        if (maximumTransfers <= 0) {
+            throw new IllegalArgumentException("Maximum transfers must be positive.");
+        }
+        this.permits = new Semaphore(maximumTransfers);
+    }
+
+    private void acquire() throws InterruptedException {
+        permits.acquire();
+    }
+
+    private void release() {
+        permits.release();
+    }
+
+    static final class LimitingTransporterFactory implements TransporterFactory {
+
+        private final TransporterFactory delegate;
+
+        LimitingTransporterFactory(@NotNull TransporterFactory delegate) {
+            Validation.notNull(delegate, "Delegate must not be null.");
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Transporter newInstance(RepositorySystemSession session, RemoteRepository repository)
+                throws NoTransporterException {
+            Transporter transporter = delegate.newInstance(session, repository);
+            Object limiter = session.getConfigProperties().get(CONFIG_PROP_TRANSFER_LIMITER);
+            return limiter instanceof ApacheTransferLimiter
+                    ? new LimitedTransporter(transporter, (ApacheTransferLimiter) limiter)
+                    : transporter;
+        }
+
+        @Override
+        public float getPriority() {
+            return delegate.getPriority();
+        }
+    }
+
+    private static final class LimitedTransporter implements Transporter {
+
+        private final Transporter delegate;
+        private final ApacheTransferLimiter limiter;
+
+        private LimitedTransporter(@NotNull Transporter delegate, @NotNull ApacheTransferLimiter limiter) {
+            this.delegate = delegate;
+            this.limiter = limiter;
+        }
+
+        @Override
+        public int classify(Throwable error) {
+            return delegate.classify(error);
+        }
+
+        @Override
+        public void peek(PeekTask task) throws Exception {
+            limiter.acquire();
+            try {
+                delegate.peek(task);
+            } finally {
+                limiter.release();
+            }
+        }
+
+        @Override
+        public void get(GetTask task) throws Exception {
+            limiter.acquire();
+            try {
+                delegate.get(task);
+            } finally {
+                limiter.release();
+            }
+        }
+
+        @Override
+        public void put(PutTask task) throws Exception {
+            limiter.acquire();
+            try {
+                delegate.put(task);
+            } finally {
+                limiter.release();
+            }
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package team.idealstate.sugar.maven.resolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ApacheIntegrityIndexTest {
+
+    @TempDir
+    Path workspace;
+
+    @Test
+    void flushKeepsEntriesWrittenByOtherIndexes() throws Exception {
+        Path first = write("first.jar", "first");
+        Path second = write("second.jar", "second");
+        ApacheIntegrityIndex firstIndex = new ApacheIntegrityIndex(workspace.toFile());
+        ApacheIntegrityIndex secondIndex = new ApacheIntegrityIndex(workspace.toFile());
+        firstIndex.sha1Of(first);
+        secondIndex.sha1Of(second);
+        firstIndex.flush();
+        secondIndex.flush();
+
+        List<String> lines = Files.readAllLines(
+                workspace.resolve(".sugar").resolve("integrity").resolve("index"), StandardCharsets.UTF_8);
+        assertEquals(3, lines.size());
+        assertTrue(lines.stream().anyMatch(it -> it.endsWith(first.toAbsolutePath().toString())));
+        assertTrue(lines.stream().anyMatch(it -> it.endsWith(second.toAbsolutePath().toString())));
+    }
+
+    @Test
+    void reportsMissingChecksums() throws Exception {
+        Path file = write("unsigned.jar", "unsigned");
+        List<String> mismatches = new ApacheIntegrityIndex(workspace.toFile())
+                .verify(Collections.singletonList(file.toFile()), ApacheChecksumPolicy.FAIL, Runnable::run);
+        assertEquals(1, mismatches.size());
+    }
+
+    private Path write(String name, String content) throws Exception {
+        return Files.write(workspace.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
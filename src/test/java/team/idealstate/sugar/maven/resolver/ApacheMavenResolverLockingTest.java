@@ -0,0 +1,157 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package team.idealstate.sugar.maven.resolver;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import team.idealstate.sugar.maven.resolver.api.Dependency;
+import team.idealstate.sugar.maven.resolver.api.DependencyScope;
+import team.idealstate.sugar.maven.resolver.api.ResolvedArtifact;
+
+@Tag("stress")
+class ApacheMavenResolverLockingTest {
+
+    private static final int PROCESSES = 4;
+    private static final long PROCESS_TIMEOUT_SECONDS = 120L;
+    private static final String START_SIGNAL = "start";
+
+    @TempDir
+    Path workspace;
+
+    @Test
+    void sharesLocalRepositoryAcrossProcesses() throws Exception {
+        Path remote = workspace.resolve("remote");
+        Path local = workspace.resolve("local");
+        RepositoryFixture.generate(remote, RepositoryFixture.Shape.WIDE, new ApacheDependencyResolver());
+        Path startSignal = workspace.resolve(START_SIGNAL);
+
+        List<Process> processes = new ArrayList<>(PROCESSES);
+        List<Path> outputs = new ArrayList<>(PROCESSES);
+        try {
+            for (int i = 0; i < PROCESSES; i++) {
+                Path output = workspace.resolve("worker-" + i + ".log");
+                outputs.add(output);
+                processes.add(new ProcessBuilder(
+                                Paths.get(System.getProperty("java.home"), "bin", "java")
+                                        .toString(),
+                                "-cp",
+                                System.getProperty("java.class.path"),
+                                Worker.class.getName(),
+                                local.toString(),
+                                remote.toString(),
+                                startSignal.toString())
+                        .redirectErrorStream(true)
+                        .redirectOutput(output.toFile())
+                        .start());
+            }
+            Files.createFile(startSignal);
+            for (int i = 0; i < PROCESSES; i++) {
+                Process process = processes.get(i);
+                assertTrue(
+                        process.waitFor(PROCESS_TIMEOUT_SECONDS, TimeUnit.SECONDS),
+                        "Worker " + i + " timed out:\n" + read(outputs.get(i)));
+                assertEquals(0, process.exitValue(), "Worker " + i + " failed:\n" + read(outputs.get(i)));
+            }
+        } finally {
+            for (Process process : processes) {
+                process.destroyForcibly();
+            }
+        }
+
+        List<Path> remoteFiles = listFiles(remote);
+        for (Path remoteFile : remoteFiles) {
+            String fileName = remoteFile.getFileName().toString();
+            if (!fileName.endsWith(".jar") && !fileName.endsWith(".pom")) {
+                continue;
+            }
+            Path localFile = local.resolve(remote.relativize(remoteFile).toString());
+            assertTrue(Files.isRegularFile(localFile), "Missing " + localFile);
+            assertArrayEquals(Files.readAllBytes(remoteFile), Files.readAllBytes(localFile), localFile.toString());
+        }
+        for (Path localFile : listFiles(local)) {
+            assertFalse(localFile.getFileName().toString().endsWith(".tmp"), "Leftover " + localFile);
+        }
+    }
+
+    private static List<Path> listFiles(Path root) throws IOException {
+        try (Stream<Path> files = Files.walk(root)) {
+            return files.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+    }
+
+    private static String read(Path path) throws IOException {
+        return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+    }
+
+    static final class Worker {
+
+        private static final long START_TIMEOUT_MILLIS = 60_000L;
+
+        public static void main(String[] args) throws Exception {
+            Path local = Paths.get(args[0]);
+            Path remote = Paths.get(args[1]);
+            Path startSignal = Paths.get(args[2]);
+            ApacheDependencyResolver dependencyResolver = new ApacheDependencyResolver();
+            Dependency root = dependencyResolver.resolve(
+                    RepositoryFixture.GROUP_ID, "wide-root", "jar", null, "1.0", DependencyScope.COMPILE);
+            Map<String, String> properties = Collections.singletonMap(
+                    ApacheMavenResolverOptions.LOCKING_MODE, ApacheLockingMode.FILE.name());
+
+            long deadline = System.currentTimeMillis() + START_TIMEOUT_MILLIS;
+            while (!Files.exists(startSignal)) {
+                if (System.currentTimeMillis() > deadline) {
+                    throw new IllegalStateException("Start signal was never given.");
+                }
+                Thread.sleep(10L);
+            }
+            try (ApacheMavenResolver resolver = new ApacheMavenResolver(
+                    new RepositoryFixture.FixtureLocalRepository(local),
+                    Collections.singletonList(new RepositoryFixture.FixtureRemoteRepository(remote)),
+                    dependencyResolver,
+                    new ApacheMavenResolverOptions(properties))) {
+                List<ResolvedArtifact> resolvedArtifacts = resolver.resolve(Collections.singletonList(root));
+                for (ResolvedArtifact resolvedArtifact : resolvedArtifacts) {
+                    File file = resolvedArtifact.getFile();
+                    if (file == null || !file.isFile()) {
+                        throw new IllegalStateException("Unresolved " + resolvedArtifact);
+                    }
+                }
+                System.out.println("Resolved " + resolvedArtifacts.size() + " artifacts.");
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package team.idealstate.sugar.maven.resolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import team.idealstate.sugar.maven.resolver.api.Dependency;
+import team.idealstate.sugar.maven.resolver.api.DependencyScope;
+import team.idealstate.sugar.maven.resolver.api.RemoteRepository;
+import team.idealstate.sugar.maven.resolver.api.RepositoryPolicy;
+import team.idealstate.sugar.maven.resolver.api.ResolvedArtifact;
+
+class ApacheMavenResolverModeTest {
+
+    @TempDir
+    Path workspace;
+
+    private HttpRepositoryServer server;
+    private ApacheDependencyResolver dependencyResolver;
+    private Dependency root;
+    private Dependency leaf;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path remote = workspace.resolve("remote");
+        RepositoryFixture fixture = new RepositoryFixture(remote);
+        fixture.artifact("mode-leaf", "1.0", Collections.emptyList(), 1024);
+        fixture.artifact("mode-root", "1.0", Collections.singletonList("mode-leaf:1.0"), 1024);
+        dependencyResolver = new ApacheDependencyResolver();
+        root = dependencyResolver.resolve(
+                RepositoryFixture.GROUP_ID, "mode-root", "jar", null, "1.0", DependencyScope.COMPILE);
+        leaf = dependencyResolver.resolve(
+                RepositoryFixture.GROUP_ID, "mode-leaf", "jar", null, "1.0", DependencyScope.COMPILE);
+        server = new HttpRepositoryServer(remote);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void aggregatingOfflineFirstFallsBackToRemoteRepositories() throws Exception {
+        try (ApacheMavenResolver resolver = newResolver(ApacheResolutionMode.ONLINE)) {
+            assertEquals(1, resolver.resolve(Collections.singletonList(leaf)).size());
+        }
+        int requests = server.getRequests();
+        try (ApacheMavenResolver resolver = newResolver(ApacheResolutionMode.OFFLINE_FIRST)) {
+            List<ResolvedArtifact> resolvedArtifacts = resolver.resolve(Collections.singletonList(root));
+            assertEquals(2, resolvedArtifacts.size());
+            for (ResolvedArtifact resolvedArtifact : resolvedArtifacts) {
+                assertTrue(Files.isRegularFile(resolvedArtifact.getFile().toPath()), resolvedArtifact.toString());
+            }
+            assertEquals(1, resolver.getMetrics().getResolutions());
+        }
+        assertTrue(server.getRequests() > requests, "Remote repository was never asked.");
+    }
+
+    @Test
+    void aggregatingOfflineFirstGraphFallsBackToRemoteRepositories() throws Exception {
+        try (ApacheMavenResolver resolver = newResolver(ApacheResolutionMode.OFFLINE_FIRST)) {
+            ApacheResolution resolution = resolver.resolveGraph(Arrays.asList(root, leaf));
+            assertEquals(2, resolution.getArtifacts().size());
+        }
+        assertTrue(server.getRequests() > 0, "Remote repository was never asked.");
+    }
+
+    @Test
+    void countsLocalChecksumMismatches() throws Exception {
+        File file;
+        try (ApacheMavenResolver resolver = newResolver(ApacheResolutionMode.ONLINE)) {
+            file = resolver.resolve(Collections.singletonList(leaf)).get(0).getFile();
+            assertEquals(0, resolver.getMetrics().getChecksumFailures());
+        }
+        Files.write(file.toPath(), new byte[1024]);
+        try (ApacheMavenResolver resolver = newResolver(ApacheResolutionMode.ONLINE)) {
+            assertEquals(1, resolver.resolve(Collections.singletonList(leaf)).size());
+            assertEquals(1, resolver.getMetrics().getChecksumFailures());
+        }
+    }
+
+    @Test
+    void updatedSnapshotsAreSeenByLaterCalls() throws Exception {
+        RepositoryFixture fixture = new RepositoryFixture(workspace.resolve("remote"));
+        fixture.snapshot("mode-snapshot", "1.0-SNAPSHOT", "20250101.120000", Collections.emptyList(), 1024);
+        Dependency snapshot = dependencyResolver.resolve(
+                RepositoryFixture.GROUP_ID, "mode-snapshot", "jar", null, "1.0-SNAPSHOT", DependencyScope.COMPILE);
+        try (ApacheMavenResolver resolver = newResolver(
+                ApacheResolutionMode.ONLINE, server.repository(RepositoryPolicy.ALWAYS_UPDATE))) {
+            List<ResolvedArtifact> resolvedArtifacts = resolver.resolve(Collections.singletonList(snapshot));
+            assertEquals("1.0-20250101.120000-1", resolvedArtifacts.get(0).getActualVersion());
+
+            fixture.snapshot(
+                    "mode-snapshot",
+                    "1.0-SNAPSHOT",
+                    "20250102.120000",
+                    Collections.singletonList("mode-leaf:1.0"),
+                    1024);
+            resolvedArtifacts = resolver.resolve(Collections.singletonList(snapshot));
+            assertEquals("1.0-20250102.120000-1", resolvedArtifacts.get(0).getActualVersion());
+            assertEquals(2, resolver.resolve(Collections.singletonList(snapshot)).size());
+        }
+    }
+
+    private ApacheMavenResolver newResolver(ApacheResolutionMode resolutionMode) {
+        return newResolver(resolutionMode, server.repository());
+    }
+
+    private ApacheMavenResolver newResolver(ApacheResolutionMode resolutionMode, RemoteRepository repository) {
+        Map<String, String> properties = new HashMap<>();
+        properties.put(ApacheMavenResolverOptions.RESOLUTION_MODE, resolutionMode.name());
+        properties.put(ApacheMavenResolverOptions.FAILURE_MODE, ApacheFailureMode.AGGREGATE.name());
+        return new ApacheMavenResolver(
+                new RepositoryFixture.FixtureLocalRepository(workspace.resolve("local")),
+                Collections.singletonList(repository),
+                dependencyResolver,
+                new ApacheMavenResolverOptions(properties));
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package team.idealstate.sugar.maven.resolver;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import team.idealstate.sugar.maven.resolver.api.Dependency;
+import team.idealstate.sugar.maven.resolver.api.DependencyScope;
+import team.idealstate.sugar.maven.resolver.api.ResolvedArtifact;
+import team.idealstate.sugar.maven.resolver.api.exception.MavenResolutionException;
+
+class ApacheMavenResolverTransportTest {
+
+    private static final int LEAVES = 12;
+    private static final int JAR_SIZE = 64 * 1024;
+
+    @TempDir
+    Path workspace;
+
+    private Path remote;
+    private HttpRepositoryServer server;
+    private Dependency root;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        remote = workspace.resolve("remote");
+        RepositoryFixture fixture = new RepositoryFixture(remote);
+        List<String> leaves = new ArrayList<>(LEAVES);
+        for (int i = 0; i < LEAVES; i++) {
+            fixture.artifact("transport-" + i, "1.0", Collections.emptyList(), JAR_SIZE);
+            leaves.add("transport-" + i + ":1.0");
+        }
+        fixture.artifact("transport-root", "1.0", leaves, JAR_SIZE);
+        root = new ApacheDependencyResolver()
+                .resolve(RepositoryFixture.GROUP_ID, "transport-root", "jar", null, "1.0", DependencyScope.COMPILE);
+        server = new HttpRepositoryServer(remote);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void retriesDroppedConnections() throws Exception {
+        server.setDropEvery(5);
+        List<ResolvedArtifact> resolvedArtifacts = resolve(options(ApacheMavenResolverOptions.TRANSFER_RETRIES, "3"));
+        assertEquals(LEAVES + 1, resolvedArtifacts.size());
+        assertTrue(server.getDrops() > 0, "No connection was dropped.");
+        assertMatchesRemote(resolvedArtifacts);
+    }
+
+    @Test
+    void failsDroppedConnectionsWithoutRetries() {
+        server.setDropEvery(5);
+        assertThrows(
+                MavenResolutionException.class,
+                () -> resolve(options(ApacheMavenResolverOptions.TRANSFER_RETRIES, "0")));
+        assertTrue(server.getDrops() > 0, "No connection was dropped.");
+    }
+
+    @Test
+    void retriesUnavailableResponsesAfterInterval() throws Exception {
+        server.setUnavailableOnce(true);
+        Map<String, String> properties = options(ApacheMavenResolverOptions.TRANSFER_RETRIES, "2");
+        properties.put(ApacheMavenResolverOptions.TRANSFER_RETRY_INTERVAL, "PT0.05S");
+        long start = System.nanoTime();
+        List<ResolvedArtifact> resolvedArtifacts = resolve(properties);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000L;
+        assertEquals(LEAVES + 1, resolvedArtifacts.size());
+        assertTrue(server.getUnavailable() > 0, "No request was answered with 503.");
+        assertTrue(elapsedMillis >= 50L, "Retried after " + elapsedMillis + " ms.");
+        assertMatchesRemote(resolvedArtifacts);
+    }
+
+    @Test
+    void failsRequestsThatExceedTheTimeout() {
+        server.setLatencyMillis(3_000L);
+        Map<String, String> properties = options(ApacheMavenResolverOptions.REQUEST_TIMEOUT, "PT0.3S");
+        properties.put(ApacheMavenResolverOptions.TRANSFER_RETRIES, "0");
+        long start = System.nanoTime();
+        assertThrows(MavenResolutionException.class, () -> resolve(properties));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000L;
+        assertTrue(elapsedMillis < 3_000L, "Timed out after " + elapsedMillis + " ms.");
+    }
+
+    @Test
+    void capsConcurrentTransfers() throws Exception {
+        server.setLatencyMillis(50L);
+        Map<String, String> properties = options(ApacheMavenResolverOptions.MAXIMUM_TRANSFERS, "2");
+        properties.put(ApacheMavenResolverOptions.REPOSITORY_TRANSFERS, "8");
+        List<ResolvedArtifact> resolvedArtifacts = resolve(properties);
+        assertEquals(LEAVES + 1, resolvedArtifacts.size());
+        assertTrue(server.getMaximumActive() <= 2, "Served " + server.getMaximumActive() + " requests at once.");
+        assertMatchesRemote(resolvedArtifacts);
+    }
+
+    @Test
+    void transfersInParallelWithoutCap() throws Exception {
+        server.setLatencyMillis(50L);
+        List<ResolvedArtifact> resolvedArtifacts =
+                resolve(options(ApacheMavenResolverOptions.REPOSITORY_TRANSFERS, "8"));
+        assertEquals(LEAVES + 1, resolvedArtifacts.size());
+        assertTrue(server.getMaximumActive() > 2, "Served " + server.getMaximumActive() + " requests at once.");
+    }
+
+    private List<ResolvedArtifact> resolve(Map<String, String> properties) throws Exception {
+        try (ApacheMavenResolver resolver = new ApacheMavenResolver(
+                new RepositoryFixture.FixtureLocalRepository(workspace.resolve("local")),
+                Collections.singletonList(server.repository()),
+                new ApacheDependencyResolver(),
+                new ApacheMavenResolverOptions(properties))) {
+            return resolver.resolve(Collections.singletonList(root));
+        }
+    }
+
+    private void assertMatchesRemote(List<ResolvedArtifact> resolvedArtifacts) throws Exception {
+        for (ResolvedArtifact resolvedArtifact : resolvedArtifacts) {
+            Path file = resolvedArtifact.getFile().toPath();
+            Path expected = remote.resolve(RepositoryFixture.GROUP_ID.replace('.', '/'))
+                    .resolve(resolvedArtifact.getArtifactId())
+                    .resolve(resolvedArtifact.getVersion())
+                    .resolve(file.getFileName().toString());
+            assertArrayEquals(Files.readAllBytes(expected), Files.readAllBytes(file), file.toString());
+        }
+    }
+
+    private static Map<String, String> options(String name, String value) {
+        Map<String, String> properties = new HashMap<>();
+        properties.put(name, value);
+        return properties;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package team.idealstate.sugar.maven.resolver;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import org.eclipse.aether.ConfigurationProperties;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.spi.connector.transport.GetTask;
+import org.eclipse.aether.spi.connector.transport.Transporter;
+import org.eclipse.aether.transport.http.HttpTransporterFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ApacheMetadataValidatorsTest {
+
+    private static final String METADATA = "org/example/sample/maven-metadata.xml";
+    private static final String ARTIFACT = "org/example/sample/1.0/sample-1.0.jar";
+
+    @TempDir
+    Path workspace;
+
+    private byte[] metadata;
+    private HttpRepositoryServer server;
+    private ApacheRepositoryCache cache;
+    private DefaultRepositorySystemSession session;
+    private RemoteRepository repository;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path remote = workspace.resolve("remote");
+        metadata = ("<metadata><groupId>org.example</groupId><artifactId>sample</artifactId>"
+                        + "<versioning><latest>1.0</latest><release>1.0</release></versioning></metadata>")
+                .getBytes(StandardCharsets.UTF_8);
+        write(remote.resolve(METADATA), metadata);
+        write(remote.resolve(ARTIFACT), new byte[1024]);
+        server = new HttpRepositoryServer(remote);
+        server.setEntityTags(true);
+        cache = new ApacheRepositoryCache(16);
+        session = new DefaultRepositorySystemSession();
+        session.setCache(cache);
+        session.setConfigProperty(
+                ApacheMetadataValidators.CONFIG_PROP_METADATA_VALIDATORS,
+                new ApacheMetadataValidators(workspace.resolve("local").toFile()));
+        session.setConfigProperty(ConfigurationProperties.USER_AGENT, "sugar-test");
+        session.setConfigProperty(
+                ConfigurationProperties.HTTP_HEADERS, Collections.singletonMap("X-Sugar", "metadata"));
+        session.setConfigProperty(ConfigurationProperties.REQUEST_TIMEOUT, 5000);
+        repository = new RemoteRepository.Builder("stand-in", "default", server.repository().getUrl().toString())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.clear();
+        server.close();
+    }
+
+    @Test
+    void revalidatesWithStoredEntityTag() throws Exception {
+        try (Transporter transporter = newTransporter()) {
+            assertArrayEquals(metadata, get(transporter, METADATA));
+            assertEquals(0, server.getNotModified());
+            assertArrayEquals(metadata, get(transporter, METADATA));
+            assertEquals(1, server.getNotModified());
+            assertNotNull(server.getRequestHeader(METADATA, "If-None-Match"));
+        }
+    }
+
+    @Test
+    void sendsSessionHeadersLikeArtifactRequests() throws Exception {
+        try (Transporter transporter = newTransporter()) {
+            get(transporter, METADATA);
+            get(transporter, ARTIFACT);
+        }
+        for (String name : new String[] {"User-Agent", "X-Sugar", "Cache-Control", "Pragma"}) {
+            assertEquals(server.getRequestHeader(ARTIFACT, name), server.getRequestHeader(METADATA, name), name);
+        }
+        assertEquals("metadata", server.getRequestHeader(METADATA, "X-Sugar"));
+    }
+
+    @Test
+    void retriesDroppedMetadataRequests() throws Exception {
+        session.setConfigProperty(ConfigurationProperties.HTTP_RETRY_HANDLER_COUNT, 3);
+        server.setDropEvery(2);
+        try (Transporter transporter = newTransporter()) {
+            assertArrayEquals(metadata, get(transporter, METADATA));
+            assertArrayEquals(metadata, get(transporter, METADATA));
+        }
+        assertEquals(1, server.getDrops());
+        assertEquals(1, server.getNotModified());
+    }
+
+    @Test
+    void failsDroppedMetadataRequestsWithoutRetries() throws Exception {
+        session.setConfigProperty(ConfigurationProperties.HTTP_RETRY_HANDLER_COUNT, 0);
+        server.setDropEvery(1);
+        try (Transporter transporter = newTransporter()) {
+            assertThrows(Exception.class, () -> get(transporter, METADATA));
+        }
+        assertEquals(1, server.getDrops());
+    }
+
+    private Transporter newTransporter() throws Exception {
+        HttpTransporterFactory transporterFactory = new HttpTransporterFactory(Collections.singletonMap(
+                ApacheMetadataValidators.ValidatorExtractor.NAME, new ApacheMetadataValidators.ValidatorExtractor()));
+        return new ApacheMetadataValidators.RevalidatingTransporterFactory(transporterFactory)
+                .newInstance(session, repository);
+    }
+
+    private static byte[] get(Transporter transporter, String path) throws Exception {
+        GetTask task = new GetTask(URI.create(path));
+        transporter.get(task);
+        return task.getDataBytes();
+    }
+
+    private static void write(Path file, byte[] content) throws Exception {
+        Files.createDirectories(file.getParent());
+        Files.write(file, content);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
+import org.junit.jupiter.api.Test;
+import team.idealstate.sugar.maven.resolver.api.Dependency;
+import team.idealstate.sugar.maven.resolver.api.DependencyScope;
+
+class ApachePomDependencyReaderTest {
+
+    private static final String POM = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n"
+            + "  <modelVersion>4.0.0</modelVersion>\n"
+            + "  <groupId>team.idealstate.fixture</groupId>\n"
+            + "  <artifactId>entities</artifactId>\n"
+            + "  <version>1.0</version>\n"
+            + "  <name>Caf&eacute;&nbsp;&amp;&nbsp;Bar</name>\n"
+            + "  <description>Copyright &copy; ideal-state&nbsp;&mdash;&nbsp;&lt;sugar&gt;</description>\n"
+            + "  <dependencies>\n"
+            + "    <dependency>\n"
+            + "      <groupId>team.idealstate.fixture</groupId>\n"
+            + "      <artifactId>first</artifactId>\n"
+            + "      <version>1.0</version>\n"
+            + "    </dependency>\n"
+            + "    <dependency>\n"
+            + "      <!-- &nbsp; in comments and skipped subtrees must not matter either -->\n"
+            + "      <groupId> team.idealstate.fixture </groupId>\n"
+            + "      <artifactId>second</artifactId>\n"
+            + "      <version>2.0</version>\n"
+            + "      <type>test-jar</type>\n"
+            + "      <classifier>tests</classifier>\n"
+            + "      <scope>test</scope>\n"
+            + "      <exclusions>\n"
+            + "        <exclusion><groupId>excluded&nbsp;group</groupId><artifactId>*</artifactId></exclusion>\n"
+            + "      </exclusions>\n"
+            + "    </dependency>\n"
+            + "  </dependencies>\n"
+            + "</project>\n";
+
+    @Test
+    void resolvesXhtmlEntities() {
+        List<Dependency> dependencies =
+                new ApacheDependencyResolver().resolvePom(ByteBuffer.wrap(POM.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(2, dependencies.size());
+        assertEquals("first", dependencies.get(0).getArtifactId());
+        assertEquals("second", dependencies.get(1).getArtifactId());
+        assertEquals(DependencyScope.TEST, dependencies.get(1).getScope());
+    }
+
+    @Test
+    void matchesModelReader() throws Exception {
+        ApacheDependencyResolver resolver = new ApacheDependencyResolver();
+        List<Dependency> expected = new ArrayList<>();
+        for (org.apache.maven.model.Dependency dependency : new MavenXpp3Reader()
+                .read(new ByteArrayInputStream(POM.getBytes(StandardCharsets.UTF_8)))
+                .getDependencies()) {
+            expected.add(resolver.resolve(
+                    dependency.getGroupId(),
+                    dependency.getArtifactId(),
+                    dependency.getType(),
+                    dependency.getClassifier(),
+                    dependency.getVersion(),
+                    DependencyScope.of(dependency.getScope())));
+        }
+        List<Dependency> actual = resolver.resolvePom(new ByteArrayInputStream(POM.getBytes(StandardCharsets.UTF_8)));
+        assertTrue(!expected.isEmpty());
+        assertEquals(expected, actual);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package team.idealstate.sugar.maven.resolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.Closeable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+class ApacheRepositoryCacheTest {
+
+    @Test
+    void callCacheSharesUnscopedEntriesWithParent() {
+        ApacheRepositoryCache parent = new ApacheRepositoryCache(16);
+        ApacheRepositoryCache first = new ApacheRepositoryCache(16, parent, "scoped"::equals);
+        first.put(null, "descriptor", "pom");
+        first.put(null, "scoped", "version");
+
+        ApacheRepositoryCache second = new ApacheRepositoryCache(16, parent, "scoped"::equals);
+        assertEquals("pom", second.get(null, "descriptor"));
+        assertNull(second.get(null, "scoped"));
+        assertEquals("version", first.get(null, "scoped"));
+        assertNull(parent.get(null, "scoped"));
+    }
+
+    @Test
+    void resourcesOutliveCallCaches() {
+        ApacheRepositoryCache parent = new ApacheRepositoryCache(16);
+        ApacheRepositoryCache call = new ApacheRepositoryCache(16, parent, key -> true);
+        AtomicBoolean closed = new AtomicBoolean();
+        Closeable resource = () -> closed.set(true);
+        call.put(null, "resource", resource);
+        call.clear();
+        assertFalse(closed.get());
+
+        parent.invalidate();
+        assertEquals(resource, parent.get(null, "resource"));
+        parent.clear();
+        assertTrue(closed.get());
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.transfer.ArtifactNotFoundException;
+import org.eclipse.aether.transfer.ArtifactTransferException;
+import org.eclipse.aether.transfer.TransferCancelledException;
+import org.eclipse.aether.transfer.TransferEvent;
+import org.eclipse.aether.transfer.TransferResource;
+import org.junit.jupiter.api.Test;
+
+class ApacheRepositoryHealthTest {
+
+    private static final String REPOSITORY_ID = "central";
+
+    @Test
+    void coolsDownAfterRepeatedConnectFailures() throws Exception {
+        ApacheRepositoryHealth health = new ApacheRepositoryHealth(Duration.ofMinutes(1L));
+        failTransfer(health, new ConnectException("Connection refused"));
+        failTransfer(health, new UnknownHostException("repo.example.invalid"));
+        assertTrue(health.isAvailable(REPOSITORY_ID));
+        failTransfer(health, new ConnectException("Connection refused"));
+        assertFalse(health.isAvailable(REPOSITORY_ID));
+    }
+
+    @Test
+    void ignoresResponsesAndReadTimeouts() throws Exception {
+        ApacheRepositoryHealth health = new ApacheRepositoryHealth(Duration.ofMinutes(1L));
+        for (int i = 0; i < 10; i++) {
+            failTransfer(health, new IOException("Transfer failed for /releases/a.jar 400 Bad Request"));
+            failTransfer(health, new IOException("Transfer failed for /releases/a.jar 503 Service Unavailable"));
+            failTransfer(health, new SocketTimeoutException("Read timed out"));
+            failTransfer(health, new TransferCancelledException());
+        }
+        assertTrue(health.isAvailable(REPOSITORY_ID));
+    }
+
+    @Test
+    void resetsWhenTheRepositoryResponds() throws Exception {
+        ApacheRepositoryHealth health = new ApacheRepositoryHealth(Duration.ofMinutes(1L));
+        for (int i = 0; i < 10; i++) {
+            failTransfer(health, new ConnectException("Connection refused"));
+            failTransfer(health, new ConnectException("Connection refused"));
+            health.getTransferListener().transferFailed(event(new ArtifactNotFoundException(artifact(), null)));
+        }
+        assertTrue(health.isAvailable(REPOSITORY_ID));
+        health.getTransferListener().transferSucceeded(event(null));
+        failTransfer(health, new ConnectException("Connection refused"));
+        failTransfer(health, new ConnectException("Connection refused"));
+        assertTrue(health.isAvailable(REPOSITORY_ID));
+    }
+
+    @Test
+    void disablesCooldownWhenZero() throws Exception {
+        ApacheRepositoryHealth health = new ApacheRepositoryHealth(Duration.ZERO);
+        for (int i = 0; i < 10; i++) {
+            failTransfer(health, new ConnectException("Connection refused"));
+        }
+        assertTrue(health.isAvailable(REPOSITORY_ID));
+    }
+
+    @Test
+    void ordersFailingRepositoriesLast() throws Exception {
+        ApacheRepositoryHealth health = new ApacheRepositoryHealth(Duration.ZERO);
+        failTransfer(health, new IOException("Transfer failed for /releases/a.jar 502 Bad Gateway"));
+        RemoteRepository failing = new RemoteRepository.Builder(REPOSITORY_ID, "default", "http://localhost/").build();
+        RemoteRepository healthy = new RemoteRepository.Builder("mirror", "default", "http://localhost/").build();
+        List<RemoteRepository> ordered = health.order(Arrays.asList(failing, healthy));
+        assertEquals(Arrays.asList(healthy, failing), ordered);
+    }
+
+    private static void failTransfer(ApacheRepositoryHealth health, Exception cause) throws Exception {
+        Exception exception = cause instanceof TransferCancelledException
+                ? cause
+                : new ArtifactTransferException(artifact(), null, cause);
+        health.getTransferListener().transferFailed(event(exception));
+    }
+
+    private static TransferEvent event(Exception exception) {
+        TransferResource resource = new TransferResource(REPOSITORY_ID, "http://localhost/", "a.jar", null, null);
+        return new TransferEvent.Builder(new DefaultRepositorySystemSession(), resource)
+                .setType(exception == null ? TransferEvent.EventType.SUCCEEDED : TransferEvent.EventType.FAILED)
+                .setException(exception)
+                .build();
+    }
+
+    private static DefaultArtifact artifact() {
+        return new DefaultArtifact("team.idealstate.fixture:a:1.0");
+    }
+}
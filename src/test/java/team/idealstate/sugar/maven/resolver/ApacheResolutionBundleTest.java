@@ -0,0 +1,115 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package team.idealstate.sugar.maven.resolver;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import team.idealstate.sugar.maven.resolver.api.Dependency;
+import team.idealstate.sugar.maven.resolver.api.DependencyScope;
+import team.idealstate.sugar.maven.resolver.api.ResolvedArtifact;
+
+class ApacheResolutionBundleTest {
+
+    @TempDir
+    Path workspace;
+
+    @Test
+    void extractsArtifactsLazilyOutsideTheLocalRepository() throws Exception {
+        Path remote = workspace.resolve("remote");
+        RepositoryFixture fixture = new RepositoryFixture(remote);
+        fixture.artifact("bundle-leaf", "1.0", Collections.emptyList(), 4096);
+        fixture.artifact("bundle-root", "1.0", Collections.singletonList("bundle-leaf:1.0"), 4096);
+        ApacheDependencyResolver dependencyResolver = new ApacheDependencyResolver();
+        List<Dependency> dependencies = Collections.singletonList(dependencyResolver.resolve(
+                RepositoryFixture.GROUP_ID, "bundle-root", "jar", null, "1.0", DependencyScope.COMPILE));
+        Path bundle = workspace.resolve("resolution.bundle");
+        try (ApacheMavenResolver resolver = new ApacheMavenResolver(
+                new RepositoryFixture.FixtureLocalRepository(workspace.resolve("exporter")),
+                Collections.singletonList(new RepositoryFixture.FixtureRemoteRepository(remote)),
+                dependencyResolver)) {
+            resolver.exportBundle(bundle, dependencies);
+        }
+
+        Path local = workspace.resolve("local");
+        List<File> files = new ArrayList<>();
+        try (ApacheMavenResolver resolver = new ApacheMavenResolver(
+                new RepositoryFixture.FixtureLocalRepository(local),
+                Collections.singletonList(new RepositoryFixture.FixtureRemoteRepository(workspace.resolve("absent"))),
+                dependencyResolver,
+                new ApacheMavenResolverOptions(
+                        Collections.singletonMap(ApacheMavenResolverOptions.BUNDLE, bundle.toString())))) {
+            List<ResolvedArtifact> resolvedArtifacts = resolver.resolve(dependencies);
+            assertEquals(2, resolvedArtifacts.size());
+            assertTrue(listFiles(local).isEmpty(), "Local repository was populated.");
+
+            File first = resolvedArtifacts.get(0).getFile();
+            Path extracted = first.toPath();
+            for (int i = 0; i < pathOf(Paths.get(""), resolvedArtifacts.get(0)).getNameCount(); i++) {
+                extracted = extracted.getParent();
+            }
+            assertEquals(first.toPath(), pathOf(extracted, resolvedArtifacts.get(0)));
+            assertFalse(Files.exists(pathOf(extracted, resolvedArtifacts.get(1))), "Extracted eagerly.");
+            for (ResolvedArtifact resolvedArtifact : resolvedArtifacts) {
+                File file = resolvedArtifact.getFile();
+                files.add(file);
+                assertFalse(file.toPath().startsWith(local), file.toString());
+                assertArrayEquals(
+                        Files.readAllBytes(pathOf(remote, resolvedArtifact)),
+                        Files.readAllBytes(file.toPath()),
+                        file.toString());
+            }
+            assertTrue(listFiles(local).isEmpty(), "Local repository was populated.");
+        }
+        for (File file : files) {
+            assertFalse(file.exists(), "Left behind " + file);
+        }
+    }
+
+    private static Path pathOf(Path root, ResolvedArtifact resolvedArtifact) {
+        return root.resolve(RepositoryFixture.GROUP_ID.replace('.', '/'))
+                .resolve(resolvedArtifact.getArtifactId())
+                .resolve(resolvedArtifact.getVersion())
+                .resolve(resolvedArtifact.getArtifactId() + '-' + resolvedArtifact.getVersion() + ".jar");
+    }
+
+    private static List<Path> listFiles(Path root) throws IOException {
+        if (!Files.isDirectory(root)) {
+            return Collections.emptyList();
+        }
+        try (Stream<Path> files = Files.walk(root)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(it -> it.getFileName().toString().endsWith(".jar"))
+                    .collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package team.idealstate.sugar.maven.resolver;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import team.idealstate.sugar.maven.resolver.api.Dependency;
+import team.idealstate.sugar.maven.resolver.api.DependencyScope;
+import team.idealstate.sugar.maven.resolver.api.ResolvedArtifact;
+
+class ApacheResolutionTest {
+
+    @TempDir
+    Path workspace;
+
+    @Test
+    void graphMatchesFlatResolution() throws Exception {
+        ApacheDependencyResolver dependencyResolver = new ApacheDependencyResolver();
+        List<Dependency> dependencies = RepositoryFixture.generate(
+                workspace.resolve("remote"), RepositoryFixture.Shape.CONFLICT, dependencyResolver);
+        try (ApacheMavenResolver resolver = newResolver(dependencyResolver)) {
+            ApacheResolution resolution = resolver.resolveGraph(dependencies);
+            assertEquals(describe(resolver.resolve(dependencies)), describe(resolution.getArtifacts()));
+
+            ApacheDependencyGraph graph = resolution.getGraph();
+            int shared = graph.indexOf(RepositoryFixture.GROUP_ID, "shared");
+            assertTrue(shared >= 0);
+            assertEquals("1.0", graph.getVersion(shared));
+            assertEquals(dependencies.size() - 1, graph.getLosingVersions(shared).size());
+            assertEquals(-1, graph.indexOf(RepositoryFixture.GROUP_ID, "missing"));
+        }
+    }
+
+    @Test
+    void snapshotWinnersDoNotLoseToThemselves() throws Exception {
+        RepositoryFixture fixture = new RepositoryFixture(workspace.resolve("remote"));
+        fixture.snapshot("snapshot", "1.0-SNAPSHOT", "20250101.120000", Collections.emptyList(), 1024);
+        fixture.artifact("snapshot", "0.9", Collections.emptyList(), 1024);
+        fixture.artifact("legacy", "1.0", Collections.singletonList("snapshot:0.9"), 1024);
+        fixture.artifact("legacy", "2.0", Collections.emptyList(), 1024);
+        fixture.artifact("application", "1.0", Arrays.asList("snapshot:1.0-SNAPSHOT", "legacy:1.0"), 1024);
+        ApacheDependencyResolver dependencyResolver = new ApacheDependencyResolver();
+        List<Dependency> dependencies = Arrays.asList(
+                dependencyResolver.resolve(
+                        RepositoryFixture.GROUP_ID, "application", "jar", null, "1.0", DependencyScope.COMPILE),
+                dependencyResolver.resolve(
+                        RepositoryFixture.GROUP_ID, "legacy", "jar", null, "2.0", DependencyScope.COMPILE));
+        try (ApacheMavenResolver resolver = newResolver(dependencyResolver)) {
+            ApacheDependencyGraph graph = resolver.resolveGraph(dependencies).getGraph();
+            int snapshot = graph.indexOf(RepositoryFixture.GROUP_ID, "snapshot");
+            assertEquals("1.0-20250101.120000-1", graph.getVersion(snapshot));
+            assertEquals(Collections.singletonList("0.9"), graph.getLosingVersions(snapshot));
+            assertArrayEquals(
+                    new int[] {ApacheDependencyGraph.OMITTED_REQUESTER}, graph.getLosingRequesters(snapshot));
+
+            int legacy = graph.indexOf(RepositoryFixture.GROUP_ID, "legacy");
+            assertEquals("2.0", graph.getVersion(legacy));
+            assertEquals(Collections.singletonList("1.0"), graph.getLosingVersions(legacy));
+            assertArrayEquals(
+                    new int[] {graph.indexOf(RepositoryFixture.GROUP_ID, "application")},
+                    graph.getLosingRequesters(legacy));
+        }
+    }
+
+    @Test
+    void incrementalMatchesFullResolution() throws Exception {
+        ApacheDependencyResolver dependencyResolver = new ApacheDependencyResolver();
+        List<Dependency> dependencies = RepositoryFixture.generate(
+                workspace.resolve("remote"), RepositoryFixture.Shape.CONFLICT, dependencyResolver);
+        List<List<Dependency>> variants = new ArrayList<>();
+        variants.add(dependencies.subList(1, dependencies.size()));
+        List<Dependency> pinned = new ArrayList<>(dependencies);
+        pinned.add(
+                0,
+                dependencyResolver.resolve(
+                        RepositoryFixture.GROUP_ID, "shared", "jar", null, "1.20", DependencyScope.COMPILE));
+        variants.add(pinned);
+        List<Dependency> reversed = new ArrayList<>(dependencies);
+        Collections.reverse(reversed);
+        variants.add(reversed);
+        variants.add(dependencies);
+        try (ApacheMavenResolver resolver = newResolver(dependencyResolver)) {
+            ApacheIncrementalResolution previous = resolver.resolveIncrementally(dependencies);
+            for (List<Dependency> variant : variants) {
+                ApacheIncrementalResolution next = resolver.resolveIncrementally(previous, variant);
+                assertEquals(
+                        describe(resolver.resolveGraph(variant).getArtifacts()),
+                        describe(next.getResolution().getArtifacts()));
+                assertFalse(next.getSubtrees().isEmpty());
+                previous = next;
+            }
+        }
+    }
+
+    private ApacheMavenResolver newResolver(ApacheDependencyResolver dependencyResolver) {
+        return new ApacheMavenResolver(
+                new RepositoryFixture.FixtureLocalRepository(workspace.resolve("local")),
+                Collections.singletonList(new RepositoryFixture.FixtureRemoteRepository(workspace.resolve("remote"))),
+                dependencyResolver);
+    }
+
+    private static List<String> describe(List<ResolvedArtifact> resolvedArtifacts) {
+        List<String> result = new ArrayList<>(resolvedArtifacts.size());
+        for (ResolvedArtifact resolvedArtifact : resolvedArtifacts) {
+            result.add(resolvedArtifact.getGroupId() + ':' + resolvedArtifact.getArtifactId() + ':'
+                    + resolvedArtifact.getExtension() + ':' + resolvedArtifact.getClassifier() + ':'
+                    + resolvedArtifact.getVersion() + ':' + resolvedArtifact.getActualVersion() + ':'
+                    + resolvedArtifact.getFile());
+        }
+        return result;
+    }
+}
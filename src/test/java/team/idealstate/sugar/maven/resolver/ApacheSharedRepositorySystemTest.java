@@ -0,0 +1,87 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package team.idealstate.sugar.maven.resolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ApacheSharedRepositorySystemTest {
+
+    @TempDir
+    Path workspace;
+
+    @Test
+    void sharesModelCachesOnlyBetweenEqualRepositorySets() {
+        List<RemoteRepository> central = repositories("central", "https://repo.maven.apache.org/maven2/");
+        List<RemoteRepository> internal = repositories("internal", "https://repo.example.org/maven2/");
+        ApacheSharedRepositorySystem shared = new ApacheSharedRepositorySystem();
+        try (ApacheSharedRepositorySystem.Lease first = shared.acquire();
+                ApacheSharedRepositorySystem.Lease second = shared.acquire()) {
+            assertSame(first.getModelCache(central), second.getModelCache(central));
+            assertNotSame(first.getModelCache(central), second.getModelCache(internal));
+        }
+    }
+
+    @Test
+    void releasesTheLeaseWhenConstructionFails() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put(ApacheMavenResolverOptions.BUNDLE, workspace.resolve("missing.zip").toString());
+        ApacheSharedRepositorySystem shared = new ApacheSharedRepositorySystem();
+        ApacheSharedRepositorySystem.Lease lease = shared.acquire();
+        RepositorySystem system = lease.getSystem();
+        assertThrows(
+                RuntimeException.class,
+                () -> new ApacheMavenResolver(
+                        new RepositoryFixture.FixtureLocalRepository(workspace.resolve("local")),
+                        Collections.emptyList(),
+                        new ApacheDependencyResolver(),
+                        new ApacheMavenResolverOptions(properties),
+                        lease));
+        try (ApacheSharedRepositorySystem.Lease next = shared.acquire()) {
+            assertNotSame(system, next.getSystem());
+        }
+    }
+
+    @Test
+    void skipsSnapshotModels() {
+        ApacheModelCache modelCache = new ApacheModelCache(16);
+        modelCache.put("org.example", "parent", "1.0", "raw", "release");
+        modelCache.put("org.example", "parent", "1.0-SNAPSHOT", "raw", "snapshot");
+        modelCache.put("org.example", "parent", "1.0-20250101.120000-1", "raw", "timestamped");
+        assertEquals("release", modelCache.get("org.example", "parent", "1.0", "raw"));
+        assertNull(modelCache.get("org.example", "parent", "1.0-SNAPSHOT", "raw"));
+        assertEquals(1, modelCache.size());
+    }
+
+    private static List<RemoteRepository> repositories(String id, String url) {
+        return Collections.singletonList(new RemoteRepository.Builder(id, "default", url).build());
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package team.idealstate.sugar.maven.resolver;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import team.idealstate.sugar.maven.resolver.api.RemoteRepository;
+import team.idealstate.sugar.maven.resolver.api.RepositoryPolicy;
+import team.idealstate.sugar.validate.annotation.NotNull;
+import team.idealstate.sugar.validate.annotation.Nullable;
+
+final class HttpRepositoryServer implements Closeable {
+
+    private static final int BACKLOG = 64;
+
+    private final Path root;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Set<String> unavailablePaths = ConcurrentHashMap.newKeySet();
+    private final ConcurrentMap<String, Headers> requestHeaders = new ConcurrentHashMap<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger drops = new AtomicInteger();
+    private final AtomicInteger unavailable = new AtomicInteger();
+    private final AtomicInteger notModified = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger maximumActive = new AtomicInteger();
+    private volatile long latencyMillis;
+    private volatile int dropEvery;
+    private volatile boolean unavailableOnce;
+    private volatile boolean entityTags;
+
+    HttpRepositoryServer(@NotNull Path root) throws IOException {
+        this.root = root.toAbsolutePath().normalize();
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), BACKLOG);
+        this.executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    @NotNull
+    RemoteRepository repository() {
+        return repository(RepositoryPolicy.NEVER_UPDATE);
+    }
+
+    RemoteRepository repository(@NotNull RepositoryPolicy policy) {
+        URI url = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/");
+        return new RemoteRepository() {
+            @NotNull
+            @Override
+            public String getName() {
+                return "stand-in";
+            }
+
+            @NotNull
+            @Override
+            public URI getUrl() {
+                return url;
+            }
+
+            @NotNull
+            @Override
+            public Set<RepositoryPolicy> getPolicies() {
+                return EnumSet.of(policy);
+            }
+        };
+    }
+
+    void setLatencyMillis(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    void setDropEvery(int dropEvery) {
+        this.dropEvery = dropEvery;
+    }
+
+    void setUnavailableOnce(boolean unavailableOnce) {
+        this.unavailableOnce = unavailableOnce;
+    }
+
+    void setEntityTags(boolean entityTags) {
+        this.entityTags = entityTags;
+    }
+
+    int getRequests() {
+        return requests.get();
+    }
+
+    int getDrops() {
+        return drops.get();
+    }
+
+    int getUnavailable() {
+        return unavailable.get();
+    }
+
+    int getNotModified() {
+        return notModified.get();
+    }
+
+    int getMaximumActive() {
+        return maximumActive.get();
+    }
+
+    @Nullable
+    String getRequestHeader(@NotNull String path, @NotNull String name) {
+        Headers headers = requestHeaders.get(path);
+        return headers == null ? null : headers.getFirst(name);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(5L, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void handle(@NotNull HttpExchange exchange) throws IOException {
+        int request = requests.incrementAndGet();
+        maximumActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+        try {
+            long latency = latencyMillis;
+            if (latency > 0L) {
+                Thread.sleep(latency);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exchange.close();
+            return;
+        } finally {
+            active.decrementAndGet();
+        }
+        try {
+            int drop = dropEvery;
+            if (drop > 0 && request % drop == 0) {
+                drops.incrementAndGet();
+                return;
+            }
+            String path = exchange.getRequestURI().getPath().substring(1);
+            Headers headers = new Headers();
+            headers.putAll(exchange.getRequestHeaders());
+            requestHeaders.put(path, headers);
+            if (unavailableOnce && unavailablePaths.add(path)) {
+                unavailable.incrementAndGet();
+                exchange.getResponseHeaders().set("Connection", "close");
+                exchange.sendResponseHeaders(503, -1L);
+                return;
+            }
+            Path file = root.resolve(path).normalize();
+            if (!file.startsWith(root) || !Files.isRegularFile(file)) {
+                exchange.sendResponseHeaders(404, -1L);
+                return;
+            }
+            if ("HEAD".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Content-Length", String.valueOf(Files.size(file)));
+                exchange.sendResponseHeaders(200, -1L);
+                return;
+            }
+            byte[] content = Files.readAllBytes(file);
+            if (entityTags) {
+                String entityTag = '"' + sha1(content) + '"';
+                exchange.getResponseHeaders().set("ETag", entityTag);
+                if (entityTag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                    notModified.incrementAndGet();
+                    exchange.sendResponseHeaders(304, -1L);
+                    return;
+                }
+            }
+            exchange.sendResponseHeaders(200, content.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(content);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    @NotNull
+    private static String sha1(@NotNull byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(content);
+            StringBuilder builder = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                builder.append(Character.forDigit((b >>> 4) & 0x0F, 16)).append(Character.forDigit(b & 0x0F, 16));
+            }
+            return builder.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
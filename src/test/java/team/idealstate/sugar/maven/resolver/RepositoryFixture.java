@@ -0,0 +1,380 @@
+/*
+ *    Copyright 2025 ideal-state
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package team.idealstate.sugar.maven.resolver;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+import team.idealstate.sugar.maven.resolver.api.Dependency;
+import team.idealstate.sugar.maven.resolver.api.DependencyResolver;
+import team.idealstate.sugar.maven.resolver.api.DependencyScope;
+import team.idealstate.sugar.maven.resolver.api.LocalRepository;
+import team.idealstate.sugar.maven.resolver.api.RemoteRepository;
+import team.idealstate.sugar.maven.resolver.api.RepositoryPolicy;
+import team.idealstate.sugar.validate.annotation.NotNull;
+
+final class RepositoryFixture {
+
+    static final String GROUP_ID = "team.idealstate.fixture";
+
+    private static final int DEEP_DEPTH = 64;
+    private static final int WIDE_WIDTH = 256;
+    private static final int CONFLICT_MODULES = 32;
+    private static final int LARGE_ARTIFACTS = 8;
+    private static final int LARGE_JAR_SIZE = 16 * 1024 * 1024;
+    private static final int SMALL_JAR_SIZE = 4 * 1024;
+
+    private final Path root;
+    private final Random random = new Random(0x5EED);
+
+    RepositoryFixture(@NotNull Path root) {
+        this.root = root;
+    }
+
+    @NotNull
+    static List<Dependency> generate(
+            @NotNull Path root, @NotNull Shape shape, @NotNull DependencyResolver dependencyResolver)
+            throws IOException {
+        RepositoryFixture fixture = new RepositoryFixture(root);
+        List<String> roots = new ArrayList<>();
+        switch (shape) {
+            case DEEP:
+                for (int i = 0; i < DEEP_DEPTH; i++) {
+                    fixture.artifact(
+                            "deep-" + i,
+                            "1.0",
+                            i + 1 < DEEP_DEPTH
+                                    ? Collections.singletonList("deep-" + (i + 1) + ":1.0")
+                                    : Collections.emptyList(),
+                            SMALL_JAR_SIZE);
+                }
+                roots.add("deep-0:1.0");
+                break;
+            case WIDE:
+                List<String> leaves = new ArrayList<>(WIDE_WIDTH);
+                for (int i = 0; i < WIDE_WIDTH; i++) {
+                    fixture.artifact("wide-" + i, "1.0", Collections.emptyList(), SMALL_JAR_SIZE);
+                    leaves.add("wide-" + i + ":1.0");
+                }
+                fixture.artifact("wide-root", "1.0", leaves, SMALL_JAR_SIZE);
+                roots.add("wide-root:1.0");
+                break;
+            case CONFLICT:
+                for (int i = 0; i < CONFLICT_MODULES; i++) {
+                    fixture.artifact("shared", "1." + i, Collections.emptyList(), SMALL_JAR_SIZE);
+                    fixture.artifact(
+                            "conflict-" + i, "1.0", Collections.singletonList("shared:1." + i), SMALL_JAR_SIZE);
+                    roots.add("conflict-" + i + ":1.0");
+                }
+                break;
+            case LARGE:
+                for (int i = 0; i < LARGE_ARTIFACTS; i++) {
+                    fixture.artifact("large-" + i, "1.0", Collections.emptyList(), LARGE_JAR_SIZE);
+                    roots.add("large-" + i + ":1.0");
+                }
+                break;
+            default:
+                throw new IllegalArgumentException(String.valueOf(shape));
+        }
+        List<Dependency> dependencies = new ArrayList<>(roots.size());
+        for (String coordinate : roots) {
+            String[] parts = coordinate.split(":");
+            dependencies.add(
+                    dependencyResolver.resolve(GROUP_ID, parts[0], "jar", null, parts[1], DependencyScope.COMPILE));
+        }
+        return dependencies;
+    }
+
+    @NotNull
+    static byte[] pom(@NotNull String artifactId, @NotNull String version, @NotNull List<String> dependencies) {
+        StringBuilder builder = new StringBuilder(256 + dependencies.size() * 192);
+        builder.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n")
+                .append("  <modelVersion>4.0.0</modelVersion>\n")
+                .append("  <groupId>")
+                .append(GROUP_ID)
+                .append("</groupId>\n")
+                .append("  <artifactId>")
+                .append(artifactId)
+                .append("</artifactId>\n")
+                .append("  <version>")
+                .append(version)
+                .append("</version>\n")
+                .append("  <description>Generated by the sugar-maven-resolver benchmark fixture.</description>\n")
+                .append("  <build><plugins><plugin><artifactId>maven-compiler-plugin</artifactId>")
+                .append("<configuration><release>8</release></configuration></plugin></plugins></build>\n");
+        if (!dependencies.isEmpty()) {
+            builder.append("  <dependencies>\n");
+            for (String dependency : dependencies) {
+                String[] parts = dependency.split(":");
+                builder.append("    <dependency>\n")
+                        .append("      <groupId>")
+                        .append(GROUP_ID)
+                        .append("</groupId>\n")
+                        .append("      <artifactId>")
+                        .append(parts[0])
+                        .append("</artifactId>\n")
+                        .append("      <version>")
+                        .append(parts[1])
+                        .append("</version>\n")
+                        .append("    </dependency>\n");
+            }
+            builder.append("  </dependencies>\n");
+        }
+        builder.append("</project>\n");
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @NotNull
+    static byte[] largePom(int dependencies) {
+        StringBuilder builder = new StringBuilder(1024 + dependencies * 1024);
+        builder.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n")
+                .append("  <modelVersion>4.0.0</modelVersion>\n")
+                .append("  <groupId>")
+                .append(GROUP_ID)
+                .append("</groupId>\n")
+                .append("  <artifactId>large-pom</artifactId>\n")
+                .append("  <version>1.0</version>\n")
+                .append("  <properties>\n");
+        for (int i = 0; i < dependencies; i++) {
+            builder.append("    <dependency-")
+                    .append(i)
+                    .append(".version>1.")
+                    .append(i)
+                    .append("</dependency-")
+                    .append(i)
+                    .append(".version>\n");
+        }
+        builder.append("  </properties>\n  <dependencyManagement>\n    <dependencies>\n");
+        for (int i = 0; i < dependencies; i++) {
+            builder.append("      <dependency><groupId>")
+                    .append(GROUP_ID)
+                    .append("</groupId><artifactId>managed-")
+                    .append(i)
+                    .append("</artifactId><version>1.")
+                    .append(i)
+                    .append("</version><exclusions><exclusion><groupId>*</groupId><artifactId>*</artifactId>")
+                    .append("</exclusion></exclusions></dependency>\n");
+        }
+        builder.append("    </dependencies>\n  </dependencyManagement>\n  <build>\n    <plugins>\n");
+        for (int i = 0; i < dependencies / 10; i++) {
+            builder.append("      <plugin><artifactId>plugin-")
+                    .append(i)
+                    .append("</artifactId><version>1.0</version><configuration><argLine>-Xmx1g</argLine>")
+                    .append("<includes><include>**/*Test.java</include><include>**/*IT.java</include></includes>")
+                    .append("</configuration><executions><execution><id>default</id><goals><goal>run</goal>")
+                    .append("</goals></execution></executions></plugin>\n");
+        }
+        builder.append("    </plugins>\n  </build>\n  <dependencies>\n");
+        for (int i = 0; i < dependencies; i++) {
+            builder.append("    <dependency><groupId>")
+                    .append(GROUP_ID)
+                    .append("</groupId><artifactId>dependency-")
+                    .append(i)
+                    .append("</artifactId><version>1.")
+                    .append(i)
+                    .append("</version></dependency>\n");
+        }
+        builder.append("  </dependencies>\n</project>\n");
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    static void delete(@NotNull Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        Files.walkFileTree(path, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                Files.delete(file);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+                Files.delete(dir);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    void artifact(
+            @NotNull String artifactId, @NotNull String version, @NotNull List<String> dependencies, int jarSize)
+            throws IOException {
+        Path directory = root.resolve(GROUP_ID.replace('.', '/'))
+                .resolve(artifactId)
+                .resolve(version);
+        Files.createDirectories(directory);
+        String baseName = artifactId + "-" + version;
+        write(directory.resolve(baseName + ".pom"), pom(artifactId, version, dependencies));
+        write(directory.resolve(baseName + ".jar"), jar(jarSize));
+    }
+
+    void snapshot(
+            @NotNull String artifactId,
+            @NotNull String version,
+            @NotNull String timestamp,
+            @NotNull List<String> dependencies,
+            int jarSize)
+            throws IOException {
+        Path directory = root.resolve(GROUP_ID.replace('.', '/'))
+                .resolve(artifactId)
+                .resolve(version);
+        Files.createDirectories(directory);
+        String baseVersion = version.substring(0, version.length() - "-SNAPSHOT".length());
+        String baseName = artifactId + "-" + baseVersion + "-" + timestamp + "-1";
+        write(directory.resolve(baseName + ".pom"), pom(artifactId, version, dependencies));
+        write(directory.resolve(baseName + ".jar"), jar(jarSize));
+        String updated = timestamp.replace(".", "");
+        StringBuilder builder = new StringBuilder(512)
+                .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<metadata modelVersion=\"1.1.0\">\n")
+                .append("  <groupId>")
+                .append(GROUP_ID)
+                .append("</groupId>\n")
+                .append("  <artifactId>")
+                .append(artifactId)
+                .append("</artifactId>\n")
+                .append("  <version>")
+                .append(version)
+                .append("</version>\n")
+                .append("  <versioning>\n")
+                .append("    <snapshot><timestamp>")
+                .append(timestamp)
+                .append("</timestamp><buildNumber>1</buildNumber></snapshot>\n")
+                .append("    <lastUpdated>")
+                .append(updated)
+                .append("</lastUpdated>\n")
+                .append("    <snapshotVersions>\n");
+        for (String extension : new String[] {"jar", "pom"}) {
+            builder.append("      <snapshotVersion><extension>")
+                    .append(extension)
+                    .append("</extension><value>")
+                    .append(baseVersion)
+                    .append('-')
+                    .append(timestamp)
+                    .append("-1</value><updated>")
+                    .append(updated)
+                    .append("</updated></snapshotVersion>\n");
+        }
+        builder.append("    </snapshotVersions>\n").append("  </versioning>\n").append("</metadata>\n");
+        write(directory.resolve("maven-metadata.xml"), builder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @NotNull
+    private byte[] jar(int size) throws IOException {
+        byte[] content = new byte[size];
+        random.nextBytes(content);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(size + 1024);
+        try (JarOutputStream jar = new JarOutputStream(bytes)) {
+            jar.putNextEntry(new ZipEntry("fixture/payload.bin"));
+            jar.write(content);
+            jar.closeEntry();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void write(@NotNull Path path, @NotNull byte[] content) throws IOException {
+        try (OutputStream outputStream = Files.newOutputStream(path)) {
+            outputStream.write(content);
+        }
+        Files.write(
+                path.resolveSibling(path.getFileName() + ".sha1"), sha1(content).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @NotNull
+    private static String sha1(@NotNull byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(content);
+            StringBuilder builder = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                builder.append(Character.forDigit((b >>> 4) & 0x0F, 16)).append(Character.forDigit(b & 0x0F, 16));
+            }
+            return builder.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    enum Shape {
+        DEEP,
+        WIDE,
+        CONFLICT,
+        LARGE
+    }
+
+    static final class FixtureLocalRepository implements LocalRepository {
+
+        private final File location;
+
+        FixtureLocalRepository(@NotNull Path location) {
+            this.location = location.toFile();
+        }
+
+        @NotNull
+        @Override
+        public File getLocation() {
+            return location;
+        }
+    }
+
+    static final class FixtureRemoteRepository implements RemoteRepository {
+
+        private final Path location;
+
+        FixtureRemoteRepository(@NotNull Path location) {
+            this.location = location;
+        }
+
+        @NotNull
+        @Override
+        public String getName() {
+            return "fixture";
+        }
+
+        @NotNull
+        @Override
+        public URI getUrl() {
+            return location.toUri();
+        }
+
+        @NotNull
+        @Override
+        public Set<RepositoryPolicy> getPolicies() {
+            return EnumSet.of(RepositoryPolicy.NEVER_UPDATE);
+        }
+    }
+}